@@ -0,0 +1,69 @@
+package library.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import library.BST;
+import library.Book;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * BSTBenchmark Class
+ * insert and search on the title tree, with books arriving in random
+ * or in sorted title order (sorted input is the worst case for an
+ * unbalanced tree).
+ *
+ *   insert  builds a new tree from 'size' books (time per tree)
+ *   search  looks up one random title (time per call)
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BSTBenchmark {
+
+    private static final int LOOKUPS = 1 << 16; // Random titles cycled through by search
+
+    @Param({"10000", "1000000"})
+    public int size;
+
+    @Param({"random", "sorted"})
+    public String order;
+
+    private Book[] books;
+    private BST tree;
+    private String[] titles;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        books = Catalogs.books(size, order.equals("random"));
+        tree = new BST();
+        for (Book book : books) {
+            tree.insert(book);
+        }
+        int[] picks = Catalogs.randomIndexes(LOOKUPS, size);
+        titles = new String[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            titles[i] = Catalogs.title(picks[i]);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public BST insert() {
+        BST t = new BST();
+        for (Book book : books) {
+            t.insert(book);
+        }
+        return t;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Book search() {
+        return tree.search(titles[next++ & (LOOKUPS - 1)]);
+    }
+}
@@ -0,0 +1,81 @@
+package library.benchmarks;
+
+import java.util.Random;
+
+import library.Book;
+import library.DynamicArray;
+
+/**
+ * Catalogs Class
+ * Builds the synthetic books the benchmarks run on.
+ * Book i has ID 100 + i and the title "Title " followed by i padded to
+ * ten digits, so the titles sort in the same order as the IDs. Authors
+ * repeat every 5000 books, and every third book is borrowed.
+ */
+final class Catalogs {
+
+    private static final long SEED = 42; // Same input in every run
+
+    private Catalogs() {
+    }
+
+    /**
+     * Returns the given number of books, in title order or shuffled.
+     * Time Complexity: O(n)
+     */
+    static Book[] books(int count, boolean shuffled) {
+        Book[] books = new Book[count];
+        for (int i = 0; i < count; i++) {
+            books[i] = new Book(100 + i, title(i), "Author " + (i % 5000),
+                    (i % 3 == 0) ? Book.Status.BORROWED : Book.Status.AVAILABLE);
+        }
+        if (shuffled) {
+            shuffle(books, new Random(SEED));
+        }
+        return books;
+    }
+
+    /**
+     * Returns an array holding the given books.
+     * Time Complexity: O(n)
+     */
+    static DynamicArray array(Book[] books) {
+        DynamicArray array = new DynamicArray();
+        for (Book book : books) {
+            array.add(book);
+        }
+        return array;
+    }
+
+    /**
+     * Returns the title of book i.
+     */
+    static String title(int i) {
+        return String.format("Title %010d", i);
+    }
+
+    /**
+     * Returns 'count' random numbers below 'bound', to look up in a loop.
+     * 'count' must be a power of two.
+     */
+    static int[] randomIndexes(int count, int bound) {
+        Random random = new Random(SEED);
+        int[] indexes = new int[count];
+        for (int i = 0; i < count; i++) {
+            indexes[i] = random.nextInt(bound);
+        }
+        return indexes;
+    }
+
+    /**
+     * Fisher-Yates shuffle.
+     */
+    static void shuffle(Object[] values, Random random) {
+        for (int i = values.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            Object swap = values[i];
+            values[i] = values[j];
+            values[j] = swap;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package library.benchmarks;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import library.Book;
+import library.BookCodec;
+import library.DynamicArray;
+import library.FileIO;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * CodecBenchmark Class
+ * Compares the old line-by-line String parsing of books.txt with the
+ * byte-level BookCodec, for both loading and saving. Both load variants
+ * keep the same Book objects, so the difference in allocation is the
+ * garbage created per line; run with "-prof gc" to see it.
+ *
+ *   loadSplit          readLine, split and parseInt, as FileIO.loadBooks once did
+ *   loadCodec          BookCodec.decode
+ *   saveConcatenation  one concatenated String per line, as FileIO.saveBooks once did
+ *   saveCodec          FileIO.saveBooks (BookCodec.Writer)
+ *
+ * Every hundredth book of the saved catalog is removed, so the array
+ * holds tombstones like a live catalog between two compactions.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CodecBenchmark {
+
+    @Param({"100000", "1000000"})
+    public int rows;
+
+    private DynamicArray books;
+    private File loadFile;
+    private File saveFile;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        books = Catalogs.array(Catalogs.books(rows, false));
+        for (int i = 0; i < books.size(); i += 100) {
+            books.remove(i); // Leaves a tombstone
+        }
+        loadFile = File.createTempFile("books-load", ".txt");
+        FileIO.saveBooks(loadFile.getPath(), books);
+        saveFile = File.createTempFile("books-save", ".txt");
+    }
+
+    @TearDown(Level.Trial)
+    public void delete() {
+        loadFile.delete();
+        saveFile.delete();
+    }
+
+    @Benchmark
+    public DynamicArray loadSplit() throws IOException {
+        DynamicArray array = new DynamicArray();
+        try (BufferedReader br = new BufferedReader(new FileReader(loadFile, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = br.readLine()) != null) {
+                String[] data = line.split(";");
+                if (data.length == 4) {
+                    array.add(new Book(Integer.parseInt(data[0]), data[1], data[2], data[3]));
+                }
+            }
+        }
+        return array;
+    }
+
+    @Benchmark
+    public DynamicArray loadCodec() throws IOException {
+        DynamicArray array = new DynamicArray();
+        try (InputStream in = new FileInputStream(loadFile)) {
+            BookCodec.decode(in, array::add);
+        }
+        return array;
+    }
+
+    @Benchmark
+    public File saveConcatenation() throws IOException {
+        try (BufferedWriter bw = new BufferedWriter(new FileWriter(saveFile, StandardCharsets.UTF_8))) {
+            for (int i = 0; i < books.size(); i++) {
+                Book book = books.get(i);
+                if (book == null) continue; // Removed book
+                bw.write(book.getBookID() + ";" + book.getTitle() + ";" + book.getAuthor() + ";" + book.getStatus());
+                bw.newLine();
+            }
+        }
+        return saveFile;
+    }
+
+    @Benchmark
+    public boolean saveCodec() {
+        return FileIO.saveBooks(saveFile.getPath(), books);
+    }
+}
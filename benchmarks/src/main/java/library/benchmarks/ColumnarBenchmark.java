@@ -0,0 +1,116 @@
+package library.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import library.Book;
+import library.BookCodec;
+import library.ColumnarCatalog;
+import library.DynamicArray;
+import library.StringPool;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * ColumnarBenchmark Class
+ * Full scans over the Book-per-row DynamicArray and over the same books
+ * in a ColumnarCatalog (structure of arrays). Setup also prints the heap
+ * each store retains, once per trial.
+ *
+ *   count    counts the available books
+ *   prefix   finds the titles starting with PREFIX (100 books match)
+ *   export   writes every book in the books.txt format to memory
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ColumnarBenchmark {
+
+    private static final String PREFIX = "title 00000001";
+
+    @Param({"100000", "1000000"})
+    public int size;
+
+    private DynamicArray catalog;
+    private ColumnarCatalog columns;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        long base = usedHeap();
+        catalog = new DynamicArray(size, 2.0, false);
+        for (Book b : Catalogs.books(size, false)) {
+            // Share author names, as the Library does when it loads books
+            catalog.add(new Book(b.getBookID(), b.getTitle(),
+                    StringPool.AUTHORS.intern(b.getAuthor()), b.getStatusCode()));
+        }
+        long objectBytes = usedHeap() - base;
+
+        base = usedHeap();
+        columns = ColumnarCatalog.fromCatalog(catalog);
+        long columnBytes = usedHeap() - base;
+
+        System.out.println();
+        System.out.println("Retained heap: Books " + (objectBytes / size) + " bytes per book, columns "
+                + (columnBytes / size) + " bytes per book");
+    }
+
+    @Benchmark
+    public int countBooks() {
+        int available = 0;
+        for (int i = 0; i < catalog.size(); i++) {
+            Book b = catalog.get(i);
+            if (b != null && b.isAvailable()) available++;
+        }
+        return available;
+    }
+
+    @Benchmark
+    public int countColumns() {
+        return columns.count(Book.Status.AVAILABLE);
+    }
+
+    @Benchmark
+    public int prefixBooks() {
+        int matches = 0;
+        for (int i = 0; i < catalog.size(); i++) {
+            Book b = catalog.get(i);
+            if (b != null && b.getTitle().regionMatches(true, 0, PREFIX, 0, PREFIX.length())) matches++;
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public int prefixColumns() {
+        return columns.titlePrefixScan(PREFIX, Integer.MAX_VALUE).size();
+    }
+
+    @Benchmark
+    public int exportBooks() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(size * 48);
+        try (BookCodec.Writer writer = new BookCodec.Writer(out)) {
+            for (int i = 0; i < catalog.size(); i++) {
+                writer.write(catalog.get(i));
+            }
+        }
+        return out.size();
+    }
+
+    @Benchmark
+    public int exportColumns() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(size * 48);
+        columns.writeTo(out);
+        return out.size();
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,89 @@
+package library.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import library.Book;
+import library.DynamicArray;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * DynamicArrayBenchmark Class
+ * add, get and remove on DynamicArray, the catalog's main list.
+ *
+ *   add     fills a new array with 'size' books (time per array)
+ *   get     reads one random position (time per call)
+ *   remove  removes just over half of the books of a full, slot-tracking array in
+ *           random order, like the Library does (time per array); this
+ *           includes the automatic compaction
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DynamicArrayBenchmark {
+
+    private static final int LOOKUPS = 1 << 16; // Random positions cycled through by get
+
+    @Param({"10000", "1000000"})
+    public int size;
+
+    private Book[] books;
+    private DynamicArray filled;
+    private int[] positions;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        books = Catalogs.books(size, false);
+        filled = Catalogs.array(books);
+        positions = Catalogs.randomIndexes(LOOKUPS, size);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public DynamicArray add() {
+        DynamicArray array = new DynamicArray();
+        for (Book book : books) {
+            array.add(book);
+        }
+        return array;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Book get() {
+        return filled.get(positions[next++ & (LOOKUPS - 1)]);
+    }
+
+    /**
+     * A full slot-tracking array and the books to remove from it, made
+     * fresh before every call of remove.
+     */
+    @State(Scope.Thread)
+    public static class RemoveState {
+        DynamicArray array;
+        Book[] victims;
+
+        @Setup(Level.Invocation)
+        public void fill(DynamicArrayBenchmark benchmark) {
+            array = new DynamicArray(benchmark.size, 2.0, true);
+            array.addAll(benchmark.books);
+            victims = benchmark.books.clone();
+            Catalogs.shuffle(victims, new java.util.Random(benchmark.size));
+            victims = java.util.Arrays.copyOf(victims, victims.length / 2 + 1); // One past half: compacts once
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public DynamicArray remove(RemoveState state) {
+        for (Book book : state.victims) {
+            state.array.remove(book);
+        }
+        return state.array;
+    }
+}
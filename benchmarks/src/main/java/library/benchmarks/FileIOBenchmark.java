@@ -0,0 +1,90 @@
+package library.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import library.BST;
+import library.DynamicArray;
+import library.FileIO;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * FileIOBenchmark Class
+ * loadBooks and saveBooks on synthetic catalogs of 10k to 10M rows
+ * (the 10M catalog is a file of about 600 MB and needs a few GB of heap,
+ * hence -Xmx6g). Each call reads or writes the whole file.
+ *
+ *   loadBooks  parses the file into a new DynamicArray and title tree
+ *   saveBooks  writes the catalog to a temporary file
+ */
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FileIOBenchmark {
+
+    /**
+     * Number of rows, shared by both states.
+     */
+    @State(Scope.Benchmark)
+    public static class Rows {
+        @Param({"10000", "100000", "1000000", "10000000"})
+        public int rows;
+    }
+
+    /**
+     * A catalog file to load. The books used to write it are dropped,
+     * so only the loaded copy is on the heap.
+     */
+    @State(Scope.Benchmark)
+    public static class CatalogFile {
+        File file;
+
+        @Setup(Level.Trial)
+        public void write(Rows rows) throws IOException {
+            file = File.createTempFile("books-load", ".txt");
+            FileIO.saveBooks(file.getPath(), Catalogs.array(Catalogs.books(rows.rows, false)));
+        }
+
+        @TearDown(Level.Trial)
+        public void delete() {
+            file.delete();
+        }
+    }
+
+    /**
+     * A catalog in memory and the file to save it to.
+     */
+    @State(Scope.Benchmark)
+    public static class Catalog {
+        DynamicArray array;
+        File file;
+
+        @Setup(Level.Trial)
+        public void build(Rows rows) throws IOException {
+            array = Catalogs.array(Catalogs.books(rows.rows, false));
+            file = File.createTempFile("books-save", ".txt");
+        }
+
+        @TearDown(Level.Trial)
+        public void delete() {
+            file.delete();
+        }
+    }
+
+    @Benchmark
+    public DynamicArray loadBooks(CatalogFile catalog) {
+        DynamicArray array = new DynamicArray();
+        FileIO.loadBooks(catalog.file.getPath(), array, new BST());
+        return array;
+    }
+
+    @Benchmark
+    public File saveBooks(Catalog catalog) {
+        FileIO.saveBooks(catalog.file.getPath(), catalog.array);
+        return catalog.file;
+    }
+}
@@ -0,0 +1,58 @@
+package library.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import library.Book;
+import library.IntHashMap;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * IdLookupBenchmark Class
+ * Lookup by ID in the IntHashMap index the Library uses for searchByID,
+ * from 10k to 10M books. The time per lookup should stay flat as the
+ * catalog grows; only cache misses make the largest sizes a bit slower.
+ *
+ *   hit   looks up a random existing ID (time per call)
+ *   miss  looks up an ID that is not in the index (time per call)
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class IdLookupBenchmark {
+
+    private static final int LOOKUPS = 1 << 16; // Random IDs cycled through
+
+    @Param({"10000", "100000", "1000000", "10000000"})
+    public int size;
+
+    private IntHashMap<Book> index;
+    private int[] ids;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Only the IDs matter here, so all books share one title and author
+        index = new IntHashMap<>();
+        for (int i = 0; i < size; i++) {
+            index.put(100 + i, new Book(100 + i, "Title", "Author", Book.Status.AVAILABLE));
+        }
+        ids = Catalogs.randomIndexes(LOOKUPS, size);
+        for (int i = 0; i < LOOKUPS; i++) {
+            ids[i] += 100;
+        }
+    }
+
+    @Benchmark
+    public Book hit() {
+        return index.get(ids[next++ & (LOOKUPS - 1)]);
+    }
+
+    @Benchmark
+    public Book miss() {
+        return index.get(-ids[next++ & (LOOKUPS - 1)]);
+    }
+}
@@ -0,0 +1,186 @@
+package library.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import library.MpscQueue;
+import library.Queue;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Control;
+
+/**
+ * MultiProducerQueueBenchmark Class
+ * Borrow requests sent by 1, 4 and 16 terminals at once to a single
+ * worker, through the lock-free MpscQueue and the synchronized Queue.
+ * Each group runs the producers against one consumer thread; the
+ * "consume" score is the number of requests delivered per microsecond.
+ *
+ * Producers back off once they are LIMIT requests ahead of the consumer,
+ * so the queues stay small however the threads are scheduled.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MultiProducerQueueBenchmark {
+
+    private static final int LIMIT = 1024; // Requests a producer may be ahead
+    private static final String USER = "reader";
+
+    /** The queues shared by the threads of one group. */
+    @State(Scope.Group)
+    public static class Lane {
+        final MpscQueue mpscQueue = new MpscQueue();
+        final Queue queue = new Queue();
+        volatile long consumed; // Written by the consumer only
+    }
+
+    /** Requests sent by one producer thread. */
+    @State(Scope.Thread)
+    public static class Producer {
+        long produced;
+    }
+
+    /**
+     * Waits until the producer may send another request.
+     * @return false if the iteration ended while waiting
+     */
+    private static boolean mayProduce(Lane lane, Producer producer, int producers, Control control) {
+        while (producer.produced - lane.consumed / producers > LIMIT) {
+            if (control.stopMeasurement) {
+                return false;
+            }
+            Thread.yield();
+        }
+        producer.produced++;
+        return true;
+    }
+
+    private static int consume(Lane lane, Queue.Request request) {
+        lane.consumed++;
+        return request.bookID;
+    }
+
+    private static int consumeMpsc(Lane lane, Control control) {
+        Queue.Request request;
+        while ((request = lane.mpscQueue.dequeue()) == null) {
+            if (control.stopMeasurement) {
+                return -1;
+            }
+            Thread.yield();
+        }
+        return consume(lane, request);
+    }
+
+    private static int consumeLocked(Lane lane, Control control) {
+        Queue.Request request;
+        while ((request = lane.queue.dequeue()) == null) {
+            if (control.stopMeasurement) {
+                return -1;
+            }
+            Thread.yield();
+        }
+        return consume(lane, request);
+    }
+
+    // ---------------- MpscQueue ----------------
+
+    @Benchmark
+    @Group("mpsc1")
+    @GroupThreads(1)
+    public void mpsc1Produce(Lane lane, Producer producer, Control control) {
+        if (mayProduce(lane, producer, 1, control)) {
+            lane.mpscQueue.enqueue(USER, 1);
+        }
+    }
+
+    @Benchmark
+    @Group("mpsc1")
+    @GroupThreads(1)
+    public int mpsc1Consume(Lane lane, Control control) {
+        return consumeMpsc(lane, control);
+    }
+
+    @Benchmark
+    @Group("mpsc4")
+    @GroupThreads(4)
+    public void mpsc4Produce(Lane lane, Producer producer, Control control) {
+        if (mayProduce(lane, producer, 4, control)) {
+            lane.mpscQueue.enqueue(USER, 1);
+        }
+    }
+
+    @Benchmark
+    @Group("mpsc4")
+    @GroupThreads(1)
+    public int mpsc4Consume(Lane lane, Control control) {
+        return consumeMpsc(lane, control);
+    }
+
+    @Benchmark
+    @Group("mpsc16")
+    @GroupThreads(16)
+    public void mpsc16Produce(Lane lane, Producer producer, Control control) {
+        if (mayProduce(lane, producer, 16, control)) {
+            lane.mpscQueue.enqueue(USER, 1);
+        }
+    }
+
+    @Benchmark
+    @Group("mpsc16")
+    @GroupThreads(1)
+    public int mpsc16Consume(Lane lane, Control control) {
+        return consumeMpsc(lane, control);
+    }
+
+    // ---------------- Queue (synchronized) ----------------
+
+    @Benchmark
+    @Group("locked1")
+    @GroupThreads(1)
+    public void locked1Produce(Lane lane, Producer producer, Control control) {
+        if (mayProduce(lane, producer, 1, control)) {
+            lane.queue.enqueue(USER, 1);
+        }
+    }
+
+    @Benchmark
+    @Group("locked1")
+    @GroupThreads(1)
+    public int locked1Consume(Lane lane, Control control) {
+        return consumeLocked(lane, control);
+    }
+
+    @Benchmark
+    @Group("locked4")
+    @GroupThreads(4)
+    public void locked4Produce(Lane lane, Producer producer, Control control) {
+        if (mayProduce(lane, producer, 4, control)) {
+            lane.queue.enqueue(USER, 1);
+        }
+    }
+
+    @Benchmark
+    @Group("locked4")
+    @GroupThreads(1)
+    public int locked4Consume(Lane lane, Control control) {
+        return consumeLocked(lane, control);
+    }
+
+    @Benchmark
+    @Group("locked16")
+    @GroupThreads(16)
+    public void locked16Produce(Lane lane, Producer producer, Control control) {
+        if (mayProduce(lane, producer, 16, control)) {
+            lane.queue.enqueue(USER, 1);
+        }
+    }
+
+    @Benchmark
+    @Group("locked16")
+    @GroupThreads(1)
+    public int locked16Consume(Lane lane, Control control) {
+        return consumeLocked(lane, control);
+    }
+}
@@ -0,0 +1,86 @@
+package library.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import library.AuthorIndex;
+import library.AvailabilityIndex;
+import library.Book;
+import library.BookQuery;
+import library.DynamicArray;
+import library.IntHashMap;
+import library.QueryEngine;
+import library.TitleSearch;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * QueryBenchmark Class
+ * Multi-field FIND queries answered through the indexes (author words,
+ * title trigrams and the availability bitmap) against a scan of every
+ * book in the catalog. Results are capped at the default limit of 20,
+ * as for FIND.
+ *
+ *   author           "Author 1234": one book in 5000 matches
+ *   authorAndStatus  "Author 1234", Available: two lists plus a status check
+ *   titlePrefix      "Title 00000123": ten consecutive books match
+ *   borrowed         Borrowed only: the clear bits of the availability bitmap
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class QueryBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    public int size;
+
+    @Param({"author", "authorAndStatus", "titlePrefix", "borrowed"})
+    public String filter;
+
+    private QueryEngine engine;
+    private BookQuery query;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Book[] books = Catalogs.books(size, false);
+        DynamicArray catalog = Catalogs.array(books);
+        IntHashMap<Book> byID = new IntHashMap<>(size);
+        TitleSearch titles = new TitleSearch(byID);
+        AuthorIndex authors = new AuthorIndex();
+        AvailabilityIndex availability = new AvailabilityIndex();
+        for (Book b : books) {
+            byID.put(b.getBookID(), b);
+            titles.add(b);
+            authors.add(b);
+            availability.set(b.getBookID(), b.isAvailable());
+        }
+        engine = new QueryEngine(byID, catalog, titles, authors, availability);
+
+        switch (filter) {
+            case "author":
+                query = new BookQuery().author("Author 1234");
+                break;
+            case "authorAndStatus":
+                query = new BookQuery().author("Author 1234").status("Available");
+                break;
+            case "borrowed":
+                query = new BookQuery().status("Borrowed");
+                break;
+            default:
+                query = new BookQuery().titlePrefix("Title 00000123");
+                break;
+        }
+    }
+
+    @Benchmark
+    public DynamicArray indexed() {
+        return engine.execute(query);
+    }
+
+    @Benchmark
+    public DynamicArray scan() {
+        return engine.scan(query);
+    }
+}
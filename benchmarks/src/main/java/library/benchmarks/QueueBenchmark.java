@@ -0,0 +1,56 @@
+package library.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import library.MpscQueue;
+import library.Queue;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * QueueBenchmark Class
+ * Single-threaded throughput of the request queues. Each call adds BATCH
+ * requests and takes them out again, so the queues stay small and the
+ * score is operations (one add plus one removal) per microsecond.
+ * MultiProducerQueueBenchmark covers concurrent producers.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class QueueBenchmark {
+
+    private static final int BATCH = 1000;
+    private static final String USER = "reader";
+
+    private final Queue queue = new Queue();
+    private final MpscQueue mpscQueue = new MpscQueue();
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int enqueueDequeue() {
+        for (int i = 0; i < BATCH; i++) {
+            queue.enqueue(USER, i);
+        }
+        int sum = 0;
+        for (int i = 0; i < BATCH; i++) {
+            sum += queue.dequeue().bookID;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int mpscEnqueueDequeue() {
+        for (int i = 0; i < BATCH; i++) {
+            mpscQueue.enqueue(USER, i);
+        }
+        int sum = 0;
+        for (int i = 0; i < BATCH; i++) {
+            sum += mpscQueue.dequeue().bookID;
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,103 @@
+package library.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import library.Book;
+import library.UndoHistory;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * UndoHistoryBenchmark Class
+ * Throughput of the bounded undo/redo history the Library records every
+ * change in. Each call records BATCH actions (alternating ADD and BORROW,
+ * more than the capacity, so the oldest are overwritten), undoes them as
+ * far as the history reaches and redoes them again. The score is
+ * history operations per microsecond.
+ *
+ *   inMemory    a history without a file
+ *   persistent  a history that appends and flushes every change to its
+ *               file, as the Library's does (reset every iteration)
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UndoHistoryBenchmark {
+
+    private static final int CAPACITY = 256; // As the Library's UNDO_LIMIT
+    private static final int BATCH = 1000;
+
+    private static final Book BOOK = new Book(101, "Title 101", "Author 101", Book.Status.AVAILABLE);
+
+    /**
+     * A history kept in memory only.
+     */
+    @State(Scope.Thread)
+    public static class InMemory {
+        final UndoHistory history = new UndoHistory(CAPACITY);
+    }
+
+    /**
+     * A history backed by a temporary file. Saving it each iteration
+     * rewrites the file as a snapshot, so the appended lines do not pile up.
+     */
+    @State(Scope.Thread)
+    public static class Persistent {
+        UndoHistory history;
+        File file;
+
+        @Setup(Level.Trial)
+        public void open() throws IOException {
+            file = File.createTempFile("books-history", ".txt");
+            history = UndoHistory.load(file.getPath(), CAPACITY);
+        }
+
+        @Setup(Level.Iteration)
+        public void snapshot() {
+            history.save(file.getPath());
+        }
+
+        @TearDown(Level.Trial)
+        public void delete() {
+            history.close();
+            file.delete();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH + 2 * CAPACITY)
+    public int inMemory(InMemory state) {
+        return recordUndoRedo(state.history);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH + 2 * CAPACITY)
+    public int persistent(Persistent state) {
+        return recordUndoRedo(state.history);
+    }
+
+    /**
+     * Records BATCH actions, then undoes and redoes the CAPACITY that are kept.
+     */
+    private static int recordUndoRedo(UndoHistory history) {
+        for (int i = 0; i < BATCH; i++) {
+            if ((i & 1) == 0) {
+                history.record(UndoHistory.ADD, BOOK);
+            } else {
+                history.record(UndoHistory.BORROW, i);
+            }
+        }
+        int sum = 0;
+        for (UndoHistory.Action a = history.undo(); a != null; a = history.undo()) {
+            sum += a.bookID;
+        }
+        for (UndoHistory.Action a = history.redo(); a != null; a = history.redo()) {
+            sum += a.bookID;
+        }
+        return sum;
+    }
+}
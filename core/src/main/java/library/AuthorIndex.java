@@ -0,0 +1,95 @@
+package library;
+
+/**
+ * AuthorIndex Class
+ * Inverted index from author name words to book IDs.
+ * "J.K. Rowling" is indexed under "j", "k" and "rowling", so a search for
+ * "Rowling" or "rowling j.k." finds the book without scanning the catalog.
+ *
+ * Each word keeps a sorted list of IDs without repeats; a book restored by
+ * undo gets its old ID back and is inserted at its sorted position.
+ * Like TitleSearch, removal is lazy: removed IDs are skipped by the caller
+ * and the index is rebuilt once they make up half of it.
+ */
+public class AuthorIndex {
+
+    private IntHashMap<IntList> words; // Hash of a word -> IDs of books by authors using it
+    private int indexed;               // Books added since the last rebuild
+    private int removed;               // Books removed since the last rebuild
+
+    /**
+     * Constructor
+     * Time Complexity: O(1)
+     */
+    public AuthorIndex() {
+        this.words = new IntHashMap<>();
+    }
+
+    /**
+     * Adds a book under every word of its author's name.
+     * Time Complexity: O(k) for an author name of k characters
+     */
+    public void add(Book book) {
+        String[] tokens = tokens(book.getAuthor());
+        int id = book.getBookID();
+        for (String token : tokens) {
+            int key = token.hashCode();
+            IntList list = words.get(key);
+            if (list == null) {
+                list = new IntList(2);
+                words.put(key, list);
+            }
+            list.addSorted(id);
+        }
+        indexed++;
+    }
+
+    /**
+     * Marks a book as removed. Its ID stays in the lists until the next rebuild.
+     * Time Complexity: O(1)
+     */
+    public void remove(Book book) {
+        removed++;
+    }
+
+    /**
+     * Checks if removed books make up so much of the index that it
+     * should be rebuilt.
+     * Time Complexity: O(1)
+     */
+    public boolean needsRebuild() {
+        return removed > 1000 && removed * 2 > indexed;
+    }
+
+    /**
+     * Rebuilds the index from the given catalog, in ID order.
+     * Time Complexity: O(n log n + n * k)
+     */
+    public void rebuild(DynamicArray catalog) {
+        words = new IntHashMap<>();
+        indexed = 0;
+        removed = 0;
+        for (Book b : catalog.sortedByID()) {
+            add(b);
+        }
+    }
+
+    /**
+     * Returns the sorted ID list for one word of an author name, or null if
+     * no author uses it. Different words can share a hash, so callers must
+     * still check the real author name.
+     * Time Complexity: O(1) average
+     */
+    public IntList get(String word) {
+        return words.get(word.toLowerCase().hashCode());
+    }
+
+    /**
+     * Splits an author name into lower-case words, ignoring punctuation.
+     * Time Complexity: O(k)
+     */
+    public static String[] tokens(String author) {
+        String cleaned = author.toLowerCase().replaceAll("[^\\p{L}\\p{N}]+", " ").trim();
+        return cleaned.isEmpty() ? new String[0] : cleaned.split(" ");
+    }
+}
@@ -0,0 +1,158 @@
+package library;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * AvailabilityIndex Class
+ * A bitmap with one bit per book ID: the bit is set while the book is
+ * available. Counting available books is a single counter read, and
+ * listing them skips 64 unavailable IDs per word without touching any
+ * Book object.
+ *
+ * Bits are changed with atomic compare-and-set, so books that share a
+ * word can change status at the same time under different lock stripes.
+ * Growing the bitmap is not atomic; the Library only adds books while
+ * holding its catalog write lock.
+ */
+public class AvailabilityIndex {
+
+    private volatile AtomicLongArray words; // Bit (id % 64) of word (id / 64) = available
+    private final AtomicInteger available;  // Number of set bits
+
+    /**
+     * Constructor
+     * Time Complexity: O(1)
+     */
+    public AvailabilityIndex() {
+        this.words = new AtomicLongArray(16);
+        this.available = new AtomicInteger();
+    }
+
+    /**
+     * Records the status of a book.
+     * Time Complexity: O(1) (amortized when the bitmap grows)
+     * @param bookID ID of the book (IDs below zero are ignored)
+     * @param isAvailable true if the book can be borrowed
+     */
+    public void set(int bookID, boolean isAvailable) {
+        if (bookID < 0) return;
+        int word = bookID >>> 6;
+        ensureCapacity(word);
+
+        long mask = 1L << bookID; // Java only uses the low 6 bits of the shift
+        AtomicLongArray w = words;
+        while (true) {
+            long old = w.get(word);
+            long updated = isAvailable ? (old | mask) : (old & ~mask);
+            if (old == updated) {
+                return; // Already in that state
+            }
+            if (w.compareAndSet(word, old, updated)) {
+                available.addAndGet(isAvailable ? 1 : -1);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Checks if the book with this ID is marked available.
+     * Time Complexity: O(1)
+     */
+    public boolean isAvailable(int bookID) {
+        AtomicLongArray w = words;
+        int word = bookID >>> 6;
+        return bookID >= 0 && word < w.length() && (w.get(word) & (1L << bookID)) != 0;
+    }
+
+    /**
+     * Returns the number of available books.
+     * Time Complexity: O(1)
+     */
+    public int count() {
+        return available.get();
+    }
+
+    /**
+     * Returns the smallest available book ID that is >= fromID, or -1.
+     * Used to iterate over all available books:
+     *   for (int id = next(0); id >= 0; id = next(id + 1))
+     * Time Complexity: O(1) per word skipped
+     */
+    public int next(int fromID) {
+        AtomicLongArray w = words;
+        if (fromID < 0) fromID = 0;
+        int word = fromID >>> 6;
+        if (word >= w.length()) return -1;
+
+        long bits = w.get(word) & (-1L << fromID); // Ignore IDs below fromID
+        while (true) {
+            if (bits != 0) {
+                return (word << 6) + Long.numberOfTrailingZeros(bits);
+            }
+            if (++word == w.length()) {
+                return -1;
+            }
+            bits = w.get(word);
+        }
+    }
+
+    /**
+     * Returns the smallest book ID >= fromID whose bit is clear, or -1
+     * once past the end of the bitmap. Every book that was ever set has a
+     * place in the bitmap, so this visits all unavailable books, and also
+     * IDs that have no book (gaps and removed books).
+     * Time Complexity: O(1) per word skipped
+     */
+    public int nextClear(int fromID) {
+        AtomicLongArray w = words;
+        if (fromID < 0) fromID = 0;
+        int word = fromID >>> 6;
+        if (word >= w.length()) return -1;
+
+        long bits = ~w.get(word) & (-1L << fromID); // Ignore IDs below fromID
+        while (true) {
+            if (bits != 0) {
+                return (word << 6) + Long.numberOfTrailingZeros(bits);
+            }
+            if (++word == w.length()) {
+                return -1;
+            }
+            bits = ~w.get(word);
+        }
+    }
+
+    /**
+     * Rebuilds the bitmap from a catalog.
+     * Time Complexity: O(n)
+     */
+    public void rebuild(DynamicArray catalog) {
+        words = new AtomicLongArray(16);
+        available.set(0);
+        for (int i = 0; i < catalog.size(); i++) {
+            Book b = catalog.get(i);
+            if (b != null) {
+                set(b.getBookID(), b.isAvailable());
+            }
+        }
+    }
+
+    /**
+     * Grows the bitmap (by doubling) so that it has the given word.
+     * Time Complexity: O(n) when it grows, O(1) otherwise
+     */
+    private void ensureCapacity(int word) {
+        AtomicLongArray w = words;
+        if (word < w.length()) return;
+
+        int length = w.length();
+        while (length <= word) {
+            length *= 2;
+        }
+        AtomicLongArray grown = new AtomicLongArray(length);
+        for (int i = 0; i < w.length(); i++) {
+            grown.set(i, w.get(i));
+        }
+        words = grown;
+    }
+}
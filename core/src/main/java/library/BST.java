@@ -0,0 +1,572 @@
+package library;
+
+/**
+ * BST (Binary Search Tree) Class
+ * This class stores Book objects sorted by their title.
+ * It allows efficient searching by title and alphabetical listing
+ * using in-order traversal.
+ *
+ * Nodes are keyed on (title ignoring case, book ID), so several books
+ * with the same title each get their own node, in ID order. Lookups by
+ * title alone see all of them; removing one leaves the others in place.
+ *
+ * The tree is kept balanced as an AVL tree: after every insert or delete
+ * the heights of the two subtrees of any node differ by at most one.
+ * Sorted input (e.g. an alphabetical books.txt) therefore no longer
+ * degrades the tree into a linked list.
+ *
+ * Every node also stores the size of its subtree, which makes rank
+ * ("how many titles come before X") and select ("the k-th title")
+ * O(log n) operations.
+ */
+public class BST {
+
+    /**
+     * The order of the tree: title (case-insensitive), then book ID.
+     * Arrays passed to insertAllSorted must be sorted with it.
+     */
+    public static final java.util.Comparator<Book> ORDER =
+            (a, b) -> compare(a.getTitle(), a.getBookID(), b);
+
+    /**
+     * Node class represents a single node in the Binary Search Tree.
+     * Each node stores one Book object, references to its left
+     * and right child nodes, and the height and size of its subtree.
+     */
+    private static class Node {
+        Book book;
+        Node left;
+        Node right;
+        int height;
+        int size;
+
+        /**
+         * Constructs a new Node with the given Book.
+         * Worst-case Time Complexity: O(1)
+         */
+        public Node(Book book) {
+            this.book = book;
+            this.left = null;
+            this.right = null;
+            this.height = 1;
+            this.size = 1;
+        }
+    }
+
+    private Node root;
+
+    /**
+     * Constructs an empty Binary Search Tree.
+     * Worst-case Time Complexity: O(1)
+     */
+    public BST() {
+        this.root = null;
+    }
+
+    /**
+     * Inserts a Book into the BST based on its title (then its ID).
+     * Title comparison is done in a case-insensitive manner.
+     * A book whose ID is already stored under the same title is not added again.
+     *
+     * Worst-case Time Complexity: O(log n)
+     */
+    public void insert(Book book) {
+        root = insertRec(root, book);
+    }
+
+    /**
+     * Recursive helper method for inserting a Book into the BST.
+     * The recursion depth is bounded by the tree height, which is O(log n).
+     *
+     * Worst-case Time Complexity: O(log n)
+     */
+    private Node insertRec(Node current, Book book) {
+        if (current == null) {
+            return new Node(book);
+        }
+
+        int comparison = ORDER.compare(book, current.book);
+
+        if (comparison < 0) {
+            current.left = insertRec(current.left, book);
+        } else if (comparison > 0) {
+            current.right = insertRec(current.right, book);
+        } else {
+            // Same title and ID: the book is already in the tree
+            return current;
+        }
+        return rebalance(current);
+    }
+
+    /**
+     * Removes the given Book from the BST.
+     * Only the node holding this exact Book object is removed; other books
+     * with the same title stay in the tree.
+     *
+     * Worst-case Time Complexity: O(log n)
+     * @return true if the book was found and removed
+     */
+    public boolean remove(Book book) {
+        Node current = root;
+        while (current != null && current.book != book) {
+            current = (ORDER.compare(book, current.book) < 0) ? current.left : current.right;
+        }
+        if (current == null) {
+            return false;
+        }
+        root = removeRec(root, book);
+        return true;
+    }
+
+    /**
+     * Recursive helper method for removing the node with the given key.
+     *
+     * Worst-case Time Complexity: O(log n)
+     */
+    private Node removeRec(Node current, Book key) {
+        if (current == null) {
+            return null;
+        }
+
+        int comparison = ORDER.compare(key, current.book);
+
+        if (comparison < 0) {
+            current.left = removeRec(current.left, key);
+        } else if (comparison > 0) {
+            current.right = removeRec(current.right, key);
+        } else {
+            if (current.left == null) {
+                return current.right;
+            }
+            if (current.right == null) {
+                return current.left;
+            }
+            // Two children: replace with the in-order successor
+            Node successor = current.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            current.book = successor.book;
+            current.right = removeRec(current.right, successor.book);
+        }
+        return rebalance(current);
+    }
+
+    /**
+     * Searches for a Book in the BST by its title.
+     * If several books share the title, the one with the lowest ID is returned.
+     * The search walks down the tree in a loop, without recursion.
+     *
+     * Worst-case Time Complexity: O(log n)
+     */
+    public Book search(String title) {
+        Book result = null;
+        Node current = root;
+        while (current != null) {
+            int comparison = title
+                    .compareToIgnoreCase(current.book.getTitle());
+
+            if (comparison == 0) {
+                result = current.book; // A lower ID may be further left
+                current = current.left;
+            } else if (comparison < 0) {
+                current = current.left;
+            } else {
+                current = current.right;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Performs an in-order traversal of the BST.
+     * This method prints all books in alphabetical order by title.
+     *
+     * Worst-case Time Complexity: O(n)
+     */
+    public void inOrderTraversal() {
+        inOrderTraversal(System.out);
+    }
+
+    /**
+     * Performs an in-order traversal of the BST, printing to the given stream.
+     * An explicit stack replaces recursion, so the call depth stays constant.
+     *
+     * Worst-case Time Complexity: O(n)
+     */
+    public void inOrderTraversal(java.io.PrintStream out) {
+        if (root == null) {
+            out.println("Tree is empty.");
+            return;
+        }
+
+        java.util.Iterator<Book> books = iterator(null);
+        while (books.hasNext()) {
+            out.println(books.next());
+        }
+    }
+
+    /**
+     * Inserts many books at once. The books must be sorted with ORDER.
+     * They are merged with the books already in the tree and the tree is
+     * rebuilt bottom-up as a perfectly balanced tree, which is much cheaper
+     * than inserting them one by one.
+     * Like insert, a book whose title and ID are already present is not added again.
+     *
+     * Worst-case Time Complexity: O(n + m) for n books in the tree and m new ones
+     */
+    public void insertAllSorted(Book[] sorted) {
+        Book[] merged = new Book[size(root) + sorted.length];
+        int count = 0;
+        java.util.Iterator<Book> existing = iterator(null);
+        Book next = existing.hasNext() ? existing.next() : null;
+
+        for (int i = 0; i <= sorted.length; i++) {
+            Book book = (i < sorted.length) ? sorted[i] : null;
+            // Take the existing books that come first (or are equal: those win)
+            while (next != null && (book == null || ORDER.compare(next, book) <= 0)) {
+                merged[count++] = next;
+                next = existing.hasNext() ? existing.next() : null;
+            }
+            if (book != null && (count == 0 || ORDER.compare(merged[count - 1], book) != 0)) {
+                merged[count++] = book;
+            }
+        }
+        root = build(merged, 0, count);
+    }
+
+    /**
+     * Builds a balanced subtree from a sorted slice [from, to) of books.
+     * The middle book becomes the root, so the heights differ by at most one.
+     * The recursion depth is O(log n).
+     *
+     * Worst-case Time Complexity: O(n)
+     */
+    private static Node build(Book[] sorted, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        Node node = new Node(sorted[mid]);
+        node.left = build(sorted, from, mid);
+        node.right = build(sorted, mid + 1, to);
+        update(node);
+        return node;
+    }
+
+    // --- ORDERED QUERIES ---
+
+    /**
+     * Returns the number of books in the tree.
+     * Worst-case Time Complexity: O(1)
+     */
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * Returns the book with the greatest title that is less than or equal
+     * to the given one (case-insensitive), or null if there is none.
+     *
+     * Worst-case Time Complexity: O(log n)
+     */
+    public Book floor(String title) {
+        Book result = null;
+        Node current = root;
+        while (current != null) {
+            int comparison = title.compareToIgnoreCase(current.book.getTitle());
+            if (comparison == 0) {
+                return current.book;
+            } else if (comparison < 0) {
+                current = current.left;
+            } else {
+                result = current.book; // Candidate; a closer one may be to the right
+                current = current.right;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the book with the smallest title that is greater than or
+     * equal to the given one (case-insensitive), or null if there is none.
+     *
+     * Worst-case Time Complexity: O(log n)
+     */
+    public Book ceiling(String title) {
+        Book result = null;
+        Node current = root;
+        while (current != null) {
+            int comparison = title.compareToIgnoreCase(current.book.getTitle());
+            if (comparison == 0) {
+                return current.book;
+            } else if (comparison > 0) {
+                current = current.right;
+            } else {
+                result = current.book; // Candidate; a closer one may be to the left
+                current = current.left;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns how many titles come strictly before the given title
+     * (case-insensitive). The title itself does not have to be in the tree.
+     *
+     * Worst-case Time Complexity: O(log n)
+     */
+    public int rank(String title) {
+        int rank = 0;
+        Node current = root;
+        while (current != null) {
+            int comparison = title.compareToIgnoreCase(current.book.getTitle());
+            if (comparison <= 0) {
+                current = current.left;
+            } else {
+                rank += size(current.left) + 1; // The node and its whole left subtree come first
+                current = current.right;
+            }
+        }
+        return rank;
+    }
+
+    /**
+     * Returns the book at the given position in alphabetical order
+     * (0 is the first title), or null if the position is out of range.
+     *
+     * Worst-case Time Complexity: O(log n)
+     */
+    public Book select(int index) {
+        if (index < 0 || index >= size(root)) {
+            return null;
+        }
+        Node current = root;
+        while (true) {
+            int leftSize = size(current.left);
+            if (index < leftSize) {
+                current = current.left;
+            } else if (index == leftSize) {
+                return current.book;
+            } else {
+                index -= leftSize + 1;
+                current = current.right;
+            }
+        }
+    }
+
+    /**
+     * Counts the books whose titles lie between from and to, both inclusive
+     * (case-insensitive).
+     *
+     * Worst-case Time Complexity: O(log n)
+     */
+    public int rangeCount(String from, String to) {
+        if (from.compareToIgnoreCase(to) > 0) {
+            return 0;
+        }
+        // Books up to and including 'to', minus those strictly before 'from'
+        int atMost = 0;
+        Node current = root;
+        while (current != null) {
+            if (to.compareToIgnoreCase(current.book.getTitle()) < 0) {
+                current = current.left;
+            } else {
+                atMost += size(current.left) + 1;
+                current = current.right;
+            }
+        }
+        return atMost - rank(from);
+    }
+
+    /**
+     * Returns the books whose titles lie between from and to, both inclusive
+     * (case-insensitive), in alphabetical order.
+     * Only the part of the tree inside the range is visited.
+     *
+     * Worst-case Time Complexity: O(log n + r) for r returned books
+     * @param limit Maximum number of books to return
+     */
+    public DynamicArray range(String from, String to, int limit) {
+        DynamicArray results = new DynamicArray();
+        InOrderIterator books = new InOrderIterator(from, Integer.MIN_VALUE); // Every ID with that title
+        while (books.hasNext() && results.size() < limit) {
+            Book b = books.next();
+            if (b.getTitle().compareToIgnoreCase(to) > 0) {
+                break;
+            }
+            results.add(b);
+        }
+        return results;
+    }
+
+    /**
+     * Returns an iterator over the books in alphabetical order, starting
+     * with the first title that comes after the given one. Used to list
+     * the catalog one page at a time: pass the last title of the previous
+     * page to resume where it ended.
+     *
+     * The iterator keeps the path from the root on an explicit stack, so
+     * creating it costs O(log n) and each step costs O(1) amortized.
+     * The tree must not change while the iterator is in use.
+     * All books with the given title are skipped; use iterator(title, id)
+     * to resume in the middle of a run of books sharing a title.
+     *
+     * Worst-case Time Complexity: O(log n)
+     * @param afterTitle Title to resume after (case-insensitive), or null to start at the beginning
+     */
+    public java.util.Iterator<Book> iterator(String afterTitle) {
+        return new InOrderIterator(afterTitle, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns an iterator over the books in alphabetical order, starting
+     * with the first book after the one with the given title and ID
+     * (which does not have to be in the tree any more).
+     *
+     * Worst-case Time Complexity: O(log n)
+     * @param afterTitle Title of the last book seen (case-insensitive)
+     * @param afterID ID of the last book seen
+     */
+    public java.util.Iterator<Book> iterator(String afterTitle, int afterID) {
+        return new InOrderIterator(afterTitle, afterID);
+    }
+
+    /**
+     * In-order iterator with an explicit stack. The stack holds the nodes
+     * still to be returned; the node on top is always the next book.
+     */
+    private class InOrderIterator implements java.util.Iterator<Book> {
+        private final Node[] stack = new Node[height(root)];
+        private int top = 0;
+
+        /**
+         * Walks down to the first book after the start key (title, ID),
+         * remembering every node where the walk turned left (those come
+         * later in order).
+         * Worst-case Time Complexity: O(log n)
+         */
+        InOrderIterator(String startTitle, int startID) {
+            Node current = root;
+            while (current != null) {
+                int comparison = (startTitle == null) ? -1
+                        : compare(startTitle, startID, current.book);
+                if (comparison < 0) {
+                    stack[top++] = current;
+                    current = current.left;
+                } else {
+                    current = current.right;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return top > 0;
+        }
+
+        /**
+         * Returns the next book and pushes the left spine of its right subtree.
+         * Worst-case Time Complexity: O(log n), O(1) amortized
+         */
+        @Override
+        public Book next() {
+            if (top == 0) {
+                throw new java.util.NoSuchElementException();
+            }
+            Node node = stack[--top];
+            Node current = node.right;
+            while (current != null) {
+                stack[top++] = current;
+                current = current.left;
+            }
+            return node.book;
+        }
+    }
+
+    /**
+     * Compares the key (title, id) with a book's key: title first
+     * (case-insensitive), then ID.
+     * Worst-case Time Complexity: O(k) for titles of k characters
+     */
+    private static int compare(String title, int id, Book book) {
+        int comparison = title.compareToIgnoreCase(book.getTitle());
+        return (comparison != 0) ? comparison : Integer.compare(id, book.getBookID());
+    }
+
+    // --- AVL BALANCING HELPERS ---
+
+    /**
+     * Returns the height of a subtree (0 for an empty subtree).
+     * Worst-case Time Complexity: O(1)
+     */
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * Returns the number of nodes in a subtree (0 for an empty subtree).
+     * Worst-case Time Complexity: O(1)
+     */
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    /**
+     * Recomputes the stored height and size of a node from its children.
+     * Worst-case Time Complexity: O(1)
+     */
+    private static void update(Node node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        node.size = 1 + size(node.left) + size(node.right);
+    }
+
+    /**
+     * Rotates the subtree right and returns its new root.
+     * Worst-case Time Complexity: O(1)
+     */
+    private static Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    /**
+     * Rotates the subtree left and returns its new root.
+     * Worst-case Time Complexity: O(1)
+     */
+    private static Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    /**
+     * Restores the AVL property at a node after one of its subtrees changed.
+     * Worst-case Time Complexity: O(1)
+     */
+    private static Node rebalance(Node node) {
+        update(node);
+        int balance = height(node.left) - height(node.right);
+
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left); // Left-Right case
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right); // Right-Left case
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+}
@@ -0,0 +1,234 @@
+package library;
+
+import java.io.*;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.HashMap;
+
+/**
+ * BinaryCatalog Class
+ * Reads and writes the catalog in a compact binary format instead of the
+ * semicolon separated text of books.txt.
+ *
+ * File layout:
+ *   Header (32 bytes): magic, version, record count, string count,
+ *                      offset of the string table, 8 reserved bytes
+ *   Records (16 bytes each): ID, title string number, author string number,
+ *                      status byte (0 = Available, 1 = Borrowed), 3 padding bytes
+ *   String table: for each distinct string, its UTF-8 length followed by the bytes
+ *
+ * Every record has the same width, so record i always starts at
+ * HEADER_SIZE + i * RECORD_SIZE. That lets the loader decode records
+ * straight from a memory-mapped file without parsing text. (Status
+ * changes are not written into the file; the Library journals them and
+ * rewrites the whole file when it compacts.) Titles and authors are
+ * stored once in the string table, so an author with a thousand books is
+ * only written (and loaded) once.
+ */
+public class BinaryCatalog {
+
+    public static final String BINARY_FILE = "books.bin";
+
+    private static final int MAGIC = 0x4C424331; // "LBC1"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 32;
+    private static final int RECORD_SIZE = 16;
+    private static final int STATUS_OFFSET = 12; // Position of the status byte inside a record
+
+    private static final byte AVAILABLE = 0;
+    private static final byte BORROWED = 1;
+
+    /**
+     * Checks if a binary catalog exists at the given path.
+     * Time Complexity: O(1)
+     */
+    public static boolean exists(String fileName) {
+        return new File(fileName).exists();
+    }
+
+    /**
+     * Writes all books to a binary catalog file.
+     * The file is written next to the target and moved over it at the end,
+     * so readers never see a half-written catalog.
+     * Time Complexity: O(n) where n is the number of books
+     * @param fileName Path of the binary file to create
+     * @param array The books to write
+     * @return true if the file was written and moved into place
+     */
+    public static boolean write(String fileName, DynamicArray array) {
+        // 1. Assign a number to every distinct title and author
+        HashMap<String, Integer> stringIds = new HashMap<>();
+        DynamicStrings strings = new DynamicStrings();
+        int count = 0;
+        for (int i = 0; i < array.size(); i++) {
+            Book book = array.get(i);
+            if (book != null) {
+                strings.intern(stringIds, book.getTitle());
+                strings.intern(stringIds, book.getAuthor());
+                count++;
+            }
+        }
+
+        File temp = new File(fileName + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(temp), 1 << 16))) {
+            long stringTableOffset = HEADER_SIZE + (long) count * RECORD_SIZE;
+
+            // 2. Header
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(count);
+            out.writeInt(strings.size);
+            out.writeLong(stringTableOffset);
+            out.writeLong(0);
+
+            // 3. Fixed-width records
+            for (int i = 0; i < array.size(); i++) {
+                Book book = array.get(i);
+                if (book != null) {
+                    out.writeInt(book.getBookID());
+                    out.writeInt(stringIds.get(book.getTitle()));
+                    out.writeInt(stringIds.get(book.getAuthor()));
+                    out.writeByte(encodeStatus(book.getStatusCode()));
+                    out.write(new byte[3]); // Padding up to RECORD_SIZE
+                }
+            }
+
+            // 4. String table
+            for (int i = 0; i < strings.size; i++) {
+                byte[] bytes = strings.values[i].getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+        } catch (IOException e) {
+            System.out.println("Error writing binary catalog: " + e.getMessage());
+            return false;
+        }
+
+        try {
+            Files.move(temp.toPath(), Paths.get(fileName),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        } catch (IOException e) {
+            System.out.println("Error writing binary catalog: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Loads a binary catalog through a memory-mapped view of the file.
+     * The string table is decoded once; records are then read at fixed
+     * offsets and share those String instances.
+     * Time Complexity: O(n + s) for n records and s distinct strings
+     * @param fileName Path of the binary file to read
+     * @param array The DynamicArray to populate
+     * @param bst The Binary Search Tree to populate
+     */
+    public static void load(String fileName, DynamicArray array, BST bst) {
+        try (FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                System.out.println("Error loading binary catalog: unknown file format.");
+                return;
+            }
+            int count = buffer.getInt(8);
+            int stringCount = buffer.getInt(12);
+            long stringTableOffset = buffer.getLong(16);
+
+            // 1. Decode the string table
+            String[] strings = new String[stringCount];
+            buffer.position((int) stringTableOffset);
+            byte[] scratch = new byte[256];
+            for (int i = 0; i < stringCount; i++) {
+                int length = buffer.getInt();
+                if (length > scratch.length) {
+                    scratch = new byte[Math.max(length, scratch.length * 2)];
+                }
+                buffer.get(scratch, 0, length);
+                strings[i] = new String(scratch, 0, length, StandardCharsets.UTF_8);
+            }
+
+            // 2. Decode the records at their fixed offsets
+            for (int i = 0; i < count; i++) {
+                int base = HEADER_SIZE + i * RECORD_SIZE;
+                Book book = new Book(buffer.getInt(base),
+                        strings[buffer.getInt(base + 4)],
+                        StringPool.AUTHORS.intern(strings[buffer.getInt(base + 8)]),
+                        decodeStatus(buffer.get(base + STATUS_OFFSET)));
+                array.add(book);
+                bst.insert(book);
+            }
+        } catch (IOException | RuntimeException e) {
+            System.out.println("Error loading binary catalog: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Converts a semicolon separated text catalog to the binary format.
+     * Time Complexity: O(n)
+     */
+    public static void textToBinary(String textFile, String binaryFile) {
+        DynamicArray array = new DynamicArray();
+        FileIO.loadBooks(textFile, array, new BST());
+        write(binaryFile, array);
+    }
+
+    /**
+     * Converts a binary catalog back to the semicolon separated text format.
+     * Time Complexity: O(n)
+     */
+    public static void binaryToText(String binaryFile, String textFile) {
+        DynamicArray array = new DynamicArray();
+        load(binaryFile, array, new BST());
+        FileIO.saveBooks(textFile, array);
+    }
+
+    /**
+     * Command-line converter.
+     * Usage: java -cp library.jar library.BinaryCatalog to-binary books.txt books.bin
+     *        java -cp library.jar library.BinaryCatalog to-text books.bin books.txt
+     */
+    public static void main(String[] args) {
+        if (args.length == 3 && args[0].equals("to-binary")) {
+            textToBinary(args[1], args[2]);
+        } else if (args.length == 3 && args[0].equals("to-text")) {
+            binaryToText(args[1], args[2]);
+        } else {
+            System.out.println("Usage: java -cp library.jar library.BinaryCatalog to-binary|to-text <input> <output>");
+        }
+    }
+
+    // --- HELPERS ---
+
+    private static byte encodeStatus(Book.Status status) {
+        return status == Book.Status.BORROWED ? BORROWED : AVAILABLE;
+    }
+
+    private static Book.Status decodeStatus(byte status) {
+        switch (status) {
+            case AVAILABLE: return Book.Status.AVAILABLE;
+            case BORROWED:  return Book.Status.BORROWED;
+            default: throw new IllegalArgumentException("Unknown status byte " + status);
+        }
+    }
+
+    /**
+     * Growable list of distinct strings in the order they were first seen.
+     */
+    private static class DynamicStrings {
+        String[] values = new String[16];
+        int size = 0;
+
+        void intern(HashMap<String, Integer> ids, String value) {
+            if (ids.containsKey(value)) return;
+            if (size == values.length) {
+                values = java.util.Arrays.copyOf(values, size * 2);
+            }
+            ids.put(value, size);
+            values[size++] = value;
+        }
+    }
+}
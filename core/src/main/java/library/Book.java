@@ -0,0 +1,182 @@
+package library;
+
+/**
+ * Book Class
+ * represents a book entity in the library system.
+ * This class stores the details required by the project PDF [Source: 63].
+ */
+public class Book {
+
+    /**
+     * Status of a book. Stored as a shared constant instead of a String
+     * per book; the label is what appears in books.txt.
+     */
+    public enum Status {
+        AVAILABLE("Available"),
+        BORROWED("Borrowed");
+
+        private final String label;
+
+        Status(String label) {
+            this.label = label;
+        }
+
+        /**
+         * Returns the text used in files and on screen.
+         */
+        public String label() {
+            return label;
+        }
+
+        /**
+         * Parses a status text (case-insensitive, surrounding spaces ignored).
+         * Time Complexity: O(1)
+         * @return The status, or null if the text is not a known label
+         */
+        public static Status parse(String text) {
+            if (text == null) return null;
+            text = text.trim();
+            for (Status status : values()) {
+                if (status.label.equalsIgnoreCase(text)) {
+                    return status;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Same as parse, but rejects unknown text.
+         * Time Complexity: O(1)
+         * @throws IllegalArgumentException if the text is not a known label
+         */
+        public static Status of(String text) {
+            Status status = parse(text);
+            if (status == null) {
+                throw new IllegalArgumentException("Unknown status \"" + text + "\" (use Available or Borrowed)");
+            }
+            return status;
+        }
+    }
+    
+    // Attributes as specified in the PDF [Source: 63]
+    private int bookID;
+    private String title;
+    private String author;
+    private Status status; // AVAILABLE or BORROWED
+
+    // Position in the catalog array; kept up to date by DynamicArray
+    int slot = -1;
+
+    /**
+     * Constructor to initialize a Book object.
+     * Time Complexity: O(1)
+     * @param bookID Unique identifier for the book
+     * @param title Title of the book
+     * @param author Author of the book
+     * @param status Current status (e.g., "Available")
+     * @throws IllegalArgumentException if the status is not a known label
+     */
+    public Book(int bookID, String title, String author, String status) {
+        this.bookID = bookID;
+        this.title = title;
+        this.author = author;
+        this.status = Status.of(status);
+    }
+
+    /**
+     * Constructor for code that already knows the status constant
+     * (e.g. the file decoder), so no status text has to be parsed.
+     * Time Complexity: O(1)
+     */
+    public Book(int bookID, String title, String author, Status status) {
+        this.bookID = bookID;
+        this.title = title;
+        this.author = author;
+        this.status = status;
+    }
+
+    // --- GETTER METHODS ---
+
+    /**
+     * Gets the book ID.
+     * Time Complexity: O(1)
+     */
+    public int getBookID() {
+        return bookID;
+    }
+
+    /**
+     * Gets the book title.
+     * Used for BST sorting and searching [Source: 19].
+     * Time Complexity: O(1)
+     */
+    public String getTitle() {
+        return title;
+    }
+
+    /**
+     * Gets the book author.
+     * Time Complexity: O(1)
+     */
+    public String getAuthor() {
+        return author;
+    }
+
+    /**
+     * Gets the current status of the book.
+     * Time Complexity: O(1)
+     */
+    public String getStatus() {
+        return status.label();
+    }
+
+    /**
+     * Gets the current status as an enum constant.
+     * Time Complexity: O(1)
+     */
+    public Status getStatusCode() {
+        return status;
+    }
+
+    /**
+     * Checks if the book can be borrowed.
+     * Time Complexity: O(1)
+     */
+    public boolean isAvailable() {
+        return status == Status.AVAILABLE;
+    }
+
+    // --- SETTER METHODS ---
+
+    /**
+     * Updates the status of the book.
+     * Crucial for Borrow/Return operations [Source: 35].
+     * Time Complexity: O(1)
+     * @param status New status (e.g., "Borrowed")
+     * @throws IllegalArgumentException if the status is not a known label
+     */
+    public void setStatus(String status) {
+        this.status = Status.of(status);
+    }
+
+    /**
+     * Updates the status of the book.
+     * Time Complexity: O(1)
+     * @param status New status
+     */
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    // --- UTILITY METHODS ---
+
+    /**
+     * Returns a string representation of the book.
+     * Useful for printing book details to the console or file.
+     * Time Complexity: O(1)
+     */
+    @Override
+    public String toString() {
+        return "ID: " + bookID + " | Title: " + title + " | Author: " + author + " | Status: " + status.label();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,333 @@
+package library;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * BookCodec Class
+ * Reads and writes the books.txt line format (ID;Title;Author;Status)
+ * directly on byte buffers.
+ *
+ * Decoding scans for ';' and '\n' itself and parses the ID digit by digit,
+ * so the only objects created per line are the ones that are kept: the
+ * Book and its title. Authors are looked up in StringPool.AUTHORS straight
+ * from the bytes, and the status is matched in place against the two
+ * known labels. Encoding writes digits and characters into one
+ * reusable byte buffer, without building a String per line.
+ */
+public class BookCodec {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final Book.Status[] STATUSES = Book.Status.values();
+    private static final byte[][] STATUS_LABELS = new byte[STATUSES.length][];
+    static {
+        for (int s = 0; s < STATUSES.length; s++) {
+            STATUS_LABELS[s] = STATUSES[s].label().getBytes(StandardCharsets.US_ASCII);
+        }
+    }
+
+    /**
+     * Receives the decoded books, in file order.
+     */
+    public interface Sink {
+        void accept(Book book);
+    }
+
+    /**
+     * Receives the fields of each valid line as byte ranges of the
+     * buffer, for stores that keep the bytes and need no Book objects.
+     * The buffer is reused, so the bytes must be copied before returning.
+     */
+    public interface FieldSink {
+        void accept(int id, byte[] data, int titleFrom, int titleTo,
+                    int authorFrom, int authorTo, Book.Status status);
+    }
+
+    /**
+     * Decodes every line of a stream, reading it through one fixed buffer.
+     * A line that does not fit in the buffer makes it grow.
+     * Time Complexity: O(k) for k bytes
+     * @return Number of books decoded
+     */
+    public static int decode(InputStream in, Sink sink) throws IOException {
+        return decodeFields(in, toBooks(sink));
+    }
+
+    /**
+     * Same as above, but hands over the raw fields instead of Books.
+     * Time Complexity: O(k) for k bytes
+     * @return Number of lines decoded
+     */
+    public static int decodeFields(InputStream in, FieldSink sink) throws IOException {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int length = 0;
+        int books = 0;
+        while (true) {
+            if (length == buffer.length) {
+                buffer = java.util.Arrays.copyOf(buffer, buffer.length * 2); // Very long line
+            }
+            int read = in.read(buffer, length, buffer.length - length);
+            boolean end = (read < 0);
+            if (!end) {
+                length += read;
+            }
+
+            // Decode the complete lines, keep the partial last line for the next read
+            int consumed = end ? length : lastLineEnd(buffer, length);
+            books += decodeFields(buffer, 0, consumed, sink);
+            System.arraycopy(buffer, consumed, buffer, 0, length - consumed);
+            length -= consumed;
+
+            if (end) {
+                return books;
+            }
+        }
+    }
+
+    /**
+     * Decodes the lines in data[from, to). The last line may end without
+     * a line break. Lines without exactly four fields, a known status or
+     * a valid ID are skipped, like FileIO.loadBooks always did.
+     * Time Complexity: O(k) for k bytes
+     * @return Number of books decoded
+     */
+    public static int decode(byte[] data, int from, int to, Sink sink) {
+        return decodeFields(data, from, to, toBooks(sink));
+    }
+
+    /**
+     * Same as above, but hands over the raw fields instead of Books.
+     * Time Complexity: O(k) for k bytes
+     * @return Number of lines decoded
+     */
+    public static int decodeFields(byte[] data, int from, int to, FieldSink sink) {
+        int books = 0;
+        int lineStart = from;
+        while (lineStart < to) {
+            int lineEnd = lineStart;
+            while (lineEnd < to && data[lineEnd] != '\n') {
+                lineEnd++;
+            }
+            int end = lineEnd;
+            if (end > lineStart && data[end - 1] == '\r') {
+                end--; // Windows line break
+            }
+
+            // Find the three separators; a fourth one makes the line invalid
+            int first = -1, second = -1, third = -1;
+            boolean valid = true;
+            for (int i = lineStart; i < end; i++) {
+                if (data[i] == ';') {
+                    if (first < 0) first = i;
+                    else if (second < 0) second = i;
+                    else if (third < 0) third = i;
+                    else {
+                        valid = false;
+                        break;
+                    }
+                }
+            }
+
+            if (valid && third >= 0 && end > third + 1) {
+                int id = parseID(data, lineStart, first);
+                Book.Status status = parseStatus(data, third + 1, end);
+                if (id >= 0 && status != null) {
+                    sink.accept(id, data, first + 1, second, second + 1, third, status);
+                    books++;
+                }
+            }
+            lineStart = lineEnd + 1;
+        }
+        return books;
+    }
+
+    /**
+     * Turns the fields of each line into a Book: the title is decoded and
+     * the author is looked up in StringPool.AUTHORS straight from the bytes.
+     */
+    private static FieldSink toBooks(Sink sink) {
+        return (id, data, titleFrom, titleTo, authorFrom, authorTo, status) ->
+                sink.accept(new Book(id, text(data, titleFrom, titleTo),
+                        StringPool.AUTHORS.intern(data, authorFrom, authorTo), status));
+    }
+
+    /**
+     * Returns the position just after the last '\n' in data[0, length),
+     * or 0 if there is none.
+     */
+    private static int lastLineEnd(byte[] data, int length) {
+        for (int i = length - 1; i >= 0; i--) {
+            if (data[i] == '\n') return i + 1;
+        }
+        return 0;
+    }
+
+    /**
+     * Reads a non-negative decimal ID, or returns -1 if it is not a number.
+     */
+    static int parseID(byte[] data, int from, int to) {
+        if (from >= to || to - from > 9) return -1;
+        int id = 0;
+        for (int i = from; i < to; i++) {
+            int digit = data[i] - '0';
+            if (digit < 0 || digit > 9) return -1;
+            id = id * 10 + digit;
+        }
+        return id;
+    }
+
+    /**
+     * Matches the status bytes against the status labels (case-insensitive),
+     * like Book.Status.parse.
+     * @return The status, or null for an unknown label
+     */
+    static Book.Status parseStatus(byte[] data, int from, int to) {
+        for (int s = 0; s < STATUSES.length; s++) {
+            byte[] label = STATUS_LABELS[s];
+            if (to - from != label.length) continue;
+            int i = 0;
+            while (i < label.length && (data[from + i] | 0x20) == (label[i] | 0x20)) {
+                i++;
+            }
+            if (i == label.length) return STATUSES[s];
+        }
+        return null;
+    }
+
+    private static String text(byte[] data, int from, int to) {
+        return new String(data, from, to - from, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes books in the books.txt format through one reusable buffer.
+     * Characters are encoded to UTF-8 by hand, so no per-line String or
+     * byte array is created.
+     */
+    public static class Writer implements AutoCloseable {
+        private final OutputStream out;
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+        private int position;
+
+        /**
+         * Constructor
+         * @param out Stream to write to (closed by close())
+         */
+        public Writer(OutputStream out) {
+            this.out = out;
+        }
+
+        /**
+         * Writes one book as a line: ID;Title;Author;Status
+         * Time Complexity: O(k) for k characters
+         */
+        public void write(Book book) throws IOException {
+            writeInt(book.getBookID());
+            writeByte(';');
+            writeText(book.getTitle());
+            writeByte(';');
+            writeText(book.getAuthor());
+            writeByte(';');
+            writeText(book.getStatus());
+            writeByte('\n');
+        }
+
+        /**
+         * Writes one line from fields that are already UTF-8 encoded.
+         * Time Complexity: O(k) for k bytes
+         */
+        public void writeFields(int id, byte[] data, int titleFrom, int titleTo,
+                                int authorFrom, int authorTo, Book.Status status) throws IOException {
+            writeInt(id);
+            writeByte(';');
+            writeBytes(data, titleFrom, titleTo);
+            writeByte(';');
+            writeBytes(data, authorFrom, authorTo);
+            writeByte(';');
+            writeText(status.label());
+            writeByte('\n');
+        }
+
+        private void writeInt(int value) throws IOException {
+            if (value < 0) {
+                writeByte('-');
+                value = -value; // IDs are never Integer.MIN_VALUE
+            }
+            ensure(10);
+            int digits = 1;
+            for (int v = value; v >= 10; v /= 10) {
+                digits++;
+            }
+            for (int i = position + digits - 1; i >= position; i--) {
+                buffer[i] = (byte) ('0' + value % 10);
+                value /= 10;
+            }
+            position += digits;
+        }
+
+        private void writeText(String text) throws IOException {
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                ensure(4);
+                if (c < 0x80) {
+                    buffer[position++] = (byte) c;
+                } else if (c < 0x800) {
+                    buffer[position++] = (byte) (0xC0 | (c >> 6));
+                    buffer[position++] = (byte) (0x80 | (c & 0x3F));
+                } else if (Character.isHighSurrogate(c) && i + 1 < text.length()
+                        && Character.isLowSurrogate(text.charAt(i + 1))) {
+                    int cp = Character.toCodePoint(c, text.charAt(++i));
+                    buffer[position++] = (byte) (0xF0 | (cp >> 18));
+                    buffer[position++] = (byte) (0x80 | ((cp >> 12) & 0x3F));
+                    buffer[position++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+                    buffer[position++] = (byte) (0x80 | (cp & 0x3F));
+                } else if (Character.isSurrogate(c)) {
+                    buffer[position++] = '?'; // Unpaired surrogate, as String.getBytes does
+                } else {
+                    buffer[position++] = (byte) (0xE0 | (c >> 12));
+                    buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                    buffer[position++] = (byte) (0x80 | (c & 0x3F));
+                }
+            }
+        }
+
+        private void writeBytes(byte[] data, int from, int to) throws IOException {
+            while (from < to) {
+                ensure(1);
+                int n = Math.min(to - from, buffer.length - position);
+                System.arraycopy(data, from, buffer, position, n);
+                position += n;
+                from += n;
+            }
+        }
+
+        private void writeByte(char c) throws IOException {
+            ensure(1);
+            buffer[position++] = (byte) c;
+        }
+
+        /**
+         * Makes room for the given number of bytes, writing the buffer out if needed.
+         */
+        private void ensure(int bytes) throws IOException {
+            if (position + bytes > buffer.length) {
+                flush();
+            }
+        }
+
+        /**
+         * Writes the buffered bytes to the stream.
+         */
+        public void flush() throws IOException {
+            out.write(buffer, 0, position);
+            position = 0;
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+            out.close();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package library;
+
+/**
+ * BookQuery Class
+ * Describes a multi-field search, e.g. "Available books by Rowling".
+ * Every filter is optional; unset filters match everything.
+ *
+ * Example:
+ *   new BookQuery().author("Rowling").status("Available")
+ */
+public class BookQuery {
+
+    String author;      // Words that must all appear in the author name
+    String titlePrefix; // Beginning of the title
+    Book.Status status; // AVAILABLE or BORROWED
+    int limit = 20;     // Maximum number of results
+
+    /**
+     * Only books whose author name contains all of these words.
+     */
+    public BookQuery author(String author) {
+        this.author = blankToNull(author);
+        return this;
+    }
+
+    /**
+     * Only books whose title starts with this text.
+     */
+    public BookQuery titlePrefix(String titlePrefix) {
+        this.titlePrefix = blankToNull(titlePrefix);
+        return this;
+    }
+
+    /**
+     * Only books with this status ("Available" or "Borrowed").
+     * @throws IllegalArgumentException if the status is not a known label
+     */
+    public BookQuery status(String status) {
+        status = blankToNull(status);
+        this.status = (status == null) ? null : Book.Status.of(status);
+        return this;
+    }
+
+    /**
+     * Maximum number of results to return.
+     */
+    public BookQuery limit(int limit) {
+        this.limit = limit;
+        return this;
+    }
+
+    /**
+     * Returns a new query with the same filters and limit, so one can be
+     * changed without affecting the other.
+     * Time Complexity: O(1)
+     */
+    public BookQuery copy() {
+        BookQuery copy = new BookQuery();
+        copy.author = author;
+        copy.titlePrefix = titlePrefix;
+        copy.status = status;
+        copy.limit = limit;
+        return copy;
+    }
+
+    private static String blankToNull(String value) {
+        return (value == null || value.trim().isEmpty()) ? null : value.trim();
+    }
+
+    @Override
+    public String toString() {
+        return "Author: " + (author == null ? "any" : author)
+                + ", Title starts with: " + (titlePrefix == null ? "any" : titlePrefix)
+                + ", Status: " + (status == null ? "any" : status.label());
+    }
+}
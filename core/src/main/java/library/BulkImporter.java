@@ -0,0 +1,225 @@
+package library;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * BulkImporter Class
+ * Reads a large vendor feed of new books in one go, for Library.importBooks.
+ *
+ * Accepted formats, one book per line:
+ *   Title;Author[;Status]        (any file not ending in .csv)
+ *   Title,Author[,Status]        (.csv, fields may be "quoted")
+ * A header line whose first field is "Title" is skipped, as are lines with
+ * fewer than two fields or an unknown status. Semicolons inside fields are
+ * replaced by commas, since books.txt uses them as separators.
+ *
+ * The file is streamed in chunks of lines; each chunk is parsed on the
+ * common fork-join pool while the next one is being read.
+ */
+public class BulkImporter {
+
+    private static final int CHUNK_LINES = 16384; // Lines parsed per task
+
+    /**
+     * The parsed fields of one chunk of lines.
+     */
+    private static class Chunk {
+        final String[] titles;
+        final String[] authors;
+        final Book.Status[] statuses;
+        int count;   // Valid rows
+        int skipped; // Lines that could not be used
+
+        Chunk(int capacity) {
+            titles = new String[capacity];
+            authors = new String[capacity];
+            statuses = new Book.Status[capacity];
+        }
+    }
+
+    private final String fileName;
+    private final char delimiter;
+    private final List<Chunk> chunks = new ArrayList<>();
+    private int rows;    // Valid rows over all chunks
+    private int skipped; // Skipped lines over all chunks
+
+    /**
+     * Constructor
+     * @param fileName Path of the feed to import
+     */
+    public BulkImporter(String fileName) {
+        this.fileName = fileName;
+        this.delimiter = fileName.toLowerCase().endsWith(".csv") ? ',' : ';';
+    }
+
+    /**
+     * Reads and parses the whole file. Needs no lock on the Library, so it
+     * can run while other terminals keep working.
+     * At most two chunks per core are waiting to be parsed at any time.
+     * Time Complexity: O(n / p) for n characters on p cores
+     */
+    public void parse() throws IOException {
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        int maxPending = 2 * Math.max(1, pool.getParallelism());
+        List<Future<Chunk>> pending = new ArrayList<>();
+
+        try (BufferedReader br = new BufferedReader(new FileReader(fileName, StandardCharsets.UTF_8), 1 << 16)) {
+            boolean first = true;
+            while (true) {
+                String[] lines = new String[CHUNK_LINES];
+                int n = 0;
+                String line;
+                while (n < CHUNK_LINES && (line = br.readLine()) != null) {
+                    if (first) {
+                        first = false;
+                        if (isHeader(line)) continue;
+                    }
+                    lines[n++] = line;
+                }
+                if (n == 0) break;
+
+                final String[] batch = lines;
+                final int batchSize = n;
+                pending.add(pool.submit(() -> parseChunk(batch, batchSize)));
+
+                // Keep the reader from running too far ahead of the parsers
+                if (pending.size() - chunks.size() >= maxPending) {
+                    collect(pending);
+                }
+            }
+            while (chunks.size() < pending.size()) {
+                collect(pending);
+            }
+        }
+    }
+
+    /**
+     * Checks if the first line is a column header such as "Title;Author".
+     */
+    private boolean isHeader(String line) {
+        int end = line.indexOf(delimiter);
+        String first = (end < 0 ? line : line.substring(0, end)).replace("\"", "").trim();
+        return first.equalsIgnoreCase("title");
+    }
+
+    /**
+     * Waits for the oldest unfinished chunk and adds it to the results, so
+     * the chunks stay in file order. The finished task is dropped from the
+     * list, which frees its raw lines.
+     */
+    private void collect(List<Future<Chunk>> pending) throws IOException {
+        int next = chunks.size();
+        try {
+            Chunk chunk = pending.get(next).get();
+            pending.set(next, null);
+            chunks.add(chunk);
+            rows += chunk.count;
+            skipped += chunk.skipped;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Import interrupted");
+        } catch (ExecutionException e) {
+            throw new IOException("Error parsing " + fileName + ": " + e.getCause().getMessage());
+        }
+    }
+
+    /**
+     * Parses one chunk of lines.
+     * Time Complexity: O(k) for k characters
+     */
+    private Chunk parseChunk(String[] lines, int n) {
+        Chunk chunk = new Chunk(n);
+        List<String> fields = new ArrayList<>(4);
+        for (int i = 0; i < n; i++) {
+            split(lines[i], fields);
+            Book.Status status = (fields.size() > 2 && !fields.get(2).isEmpty())
+                    ? Book.Status.parse(fields.get(2)) : Book.Status.AVAILABLE;
+            if (fields.size() < 2 || fields.get(0).isEmpty() || status == null) {
+                chunk.skipped++;
+                continue;
+            }
+            int row = chunk.count++;
+            chunk.titles[row] = fields.get(0);
+            chunk.authors[row] = StringPool.AUTHORS.intern(fields.get(1));
+            chunk.statuses[row] = status;
+        }
+        return chunk;
+    }
+
+    /**
+     * Splits a line at the delimiter. Fields may be wrapped in double quotes
+     * (a doubled quote inside stands for one quote). Fields are trimmed.
+     * Time Complexity: O(k) for a line of k characters
+     */
+    private void split(String line, List<String> fields) {
+        fields.clear();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                if (quoted && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = !quoted;
+                }
+            } else if (c == delimiter && !quoted) {
+                fields.add(clean(field));
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(clean(field));
+    }
+
+    private static String clean(StringBuilder field) {
+        return field.toString().trim().replace(';', ',');
+    }
+
+    /**
+     * Creates the Book objects with consecutive IDs in file order.
+     * Each chunk knows its first ID from the row counts of the chunks
+     * before it, so the chunks are converted in parallel.
+     * Time Complexity: O(n / p) for n rows on p cores
+     * @param firstID ID of the first imported book
+     */
+    public Book[] toBooks(int firstID) {
+        Book[] books = new Book[rows];
+        int[] offsets = new int[chunks.size()];
+        for (int c = 1; c < chunks.size(); c++) {
+            offsets[c] = offsets[c - 1] + chunks.get(c - 1).count;
+        }
+
+        java.util.stream.IntStream.range(0, chunks.size()).parallel().forEach(c -> {
+            Chunk chunk = chunks.get(c);
+            for (int i = 0; i < chunk.count; i++) {
+                int row = offsets[c] + i;
+                books[row] = new Book(firstID + row, chunk.titles[i], chunk.authors[i],
+                        chunk.statuses[i]);
+            }
+        });
+        return books;
+    }
+
+    /**
+     * Returns the number of valid rows found by parse().
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Returns the number of lines parse() had to skip.
+     */
+    public int getSkipped() {
+        return skipped;
+    }
+}
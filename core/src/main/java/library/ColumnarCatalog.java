@@ -0,0 +1,556 @@
+package library;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+
+/**
+ * ColumnarCatalog Class
+ * Stores the catalog as columns (structure of arrays) instead of one
+ * Book object per row:
+ *   ids[]        book IDs
+ *   statuses[]   one byte per book (Book.Status ordinal, or REMOVED)
+ *   titles       one shared UTF-8 byte pool, row i spans
+ *                titleStart[i] .. titleStart[i + 1]
+ *   authorRefs[] number of the author in a pool of distinct author names
+ *   titleHashes[] case-insensitive hash of each title, for title lookups
+ *
+ * A row costs 17 bytes of columns plus its title bytes (and up to 16
+ * bytes for the ID-to-row index), with no object header and no
+ * pointers. Full scans (status counts, title lookups, prefix scans,
+ * exports) walk plain arrays front to back. Book objects are only
+ * created on request (toBook), so a status change must go through
+ * setStatus().
+ *
+ * The Library serves lookups, borrowing, returning and the available
+ * count from it in columnar mode, until another operation needs the
+ * full catalog. Lookups and status changes may run concurrently (a
+ * status is a single byte), adding and removing may not.
+ */
+public class ColumnarCatalog {
+
+    public static final byte REMOVED = -1; // Status byte of a removed row
+
+    private int size;
+    private int[] ids;
+    private byte[] statuses;
+    private int[] titleStart;   // size + 1 entries
+    private byte[] titleBytes;
+    private int[] authorRefs;
+    private int[] titleHashes;
+    private int liveRows;
+    private int maxID;
+
+    // Pool of distinct author names
+    private int authorCount;
+    private int[] authorStart = new int[65];  // authorCount + 1 entries
+    private byte[] authorBytes = new byte[1024];
+    private final IntHashMap<int[]> authorsByHash = new IntHashMap<>(); // hash -> author numbers
+
+    // ID -> row (open addressing, key 0 marks an empty slot, so IDs are stored + 1)
+    private int[] rowKeys = new int[64];
+    private int[] rowValues = new int[64];
+
+    /**
+     * Constructor
+     * Time Complexity: O(c)
+     * @param capacity Number of rows before the columns grow
+     */
+    public ColumnarCatalog(int capacity) {
+        capacity = Math.max(1, capacity);
+        ids = new int[capacity];
+        statuses = new byte[capacity];
+        titleStart = new int[capacity + 1];
+        titleBytes = new byte[capacity * 16];
+        authorRefs = new int[capacity];
+        titleHashes = new int[capacity];
+    }
+
+    /**
+     * Loads a text catalog (books.txt format) into a new columnar store.
+     * Title and author bytes are copied from the read buffer straight into
+     * the pools, without creating a Book or String per line.
+     * Time Complexity: O(k) for k bytes
+     * @param fileName Path of the text catalog
+     * @return The loaded store, or null if it could not be loaded
+     */
+    public static ColumnarCatalog load(String fileName) {
+        ColumnarCatalog catalog = new ColumnarCatalog(1024);
+        File file = new File(fileName);
+        if (!file.exists()) return catalog;
+
+        try (InputStream in = new FileInputStream(file)) {
+            BookCodec.decodeFields(in, catalog::add);
+        } catch (IOException | RuntimeException e) {
+            System.out.println("Error loading columnar catalog: " + e.getMessage());
+            return null;
+        }
+        return catalog;
+    }
+
+    /**
+     * Copies every book of a catalog into a new columnar store.
+     * Time Complexity: O(n)
+     */
+    public static ColumnarCatalog fromCatalog(DynamicArray catalog) {
+        ColumnarCatalog columns = new ColumnarCatalog(catalog.count());
+        for (int i = 0; i < catalog.size(); i++) {
+            Book b = catalog.get(i);
+            if (b != null) {
+                columns.add(b.getBookID(), b.getTitle(), b.getAuthor(), b.getStatusCode());
+            }
+        }
+        return columns;
+    }
+
+    /**
+     * Appends a book.
+     * Time Complexity: O(k) amortized for k title/author characters
+     * @return The row of the new book
+     */
+    public int add(int id, String title, String author, Book.Status status) {
+        byte[] titleBytes = title.getBytes(StandardCharsets.UTF_8);
+        byte[] authorBytes = author.getBytes(StandardCharsets.UTF_8);
+        byte[] data = new byte[titleBytes.length + authorBytes.length];
+        System.arraycopy(titleBytes, 0, data, 0, titleBytes.length);
+        System.arraycopy(authorBytes, 0, data, titleBytes.length, authorBytes.length);
+        return add(id, data, 0, titleBytes.length, titleBytes.length, data.length, status);
+    }
+
+    /**
+     * Appends a book whose title and author are UTF-8 bytes of data.
+     * A later book with the same ID replaces the earlier one, whose row
+     * is marked as removed.
+     * Time Complexity: O(k) amortized for k bytes
+     * @return The row of the new book
+     */
+    public int add(int id, byte[] data, int titleFrom, int titleTo,
+                   int authorFrom, int authorTo, Book.Status status) {
+        if (id < 0) {
+            throw new IllegalArgumentException("Negative book ID: " + id);
+        }
+        if (size == ids.length) {
+            int capacity = size * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            statuses = Arrays.copyOf(statuses, capacity);
+            titleStart = Arrays.copyOf(titleStart, capacity + 1);
+            authorRefs = Arrays.copyOf(authorRefs, capacity);
+            titleHashes = Arrays.copyOf(titleHashes, capacity);
+        }
+        int length = titleTo - titleFrom;
+        int start = titleStart[size];
+        if (start + length > titleBytes.length) {
+            titleBytes = Arrays.copyOf(titleBytes, Math.max(titleBytes.length * 2, start + length));
+        }
+        System.arraycopy(data, titleFrom, titleBytes, start, length);
+
+        int previous = rowOf(id);
+        if (previous >= 0) {
+            statuses[previous] = REMOVED;
+            liveRows--;
+        }
+        int row = size++;
+        ids[row] = id;
+        statuses[row] = (byte) status.ordinal();
+        titleStart[row + 1] = start + length;
+        authorRefs[row] = authorNumber(data, authorFrom, authorTo);
+        titleHashes[row] = LazyCatalog.titleHash(data, titleFrom, titleTo);
+        putRow(id, row);
+        liveRows++;
+        maxID = Math.max(maxID, id);
+        return row;
+    }
+
+    // --- COLUMN ACCESS ---
+
+    /**
+     * Returns the number of rows, removed ones included.
+     * Time Complexity: O(1)
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of books (rows that were not removed).
+     * Time Complexity: O(1)
+     */
+    public int count() {
+        return liveRows;
+    }
+
+    /**
+     * Returns the highest book ID ever added.
+     * Time Complexity: O(1)
+     */
+    public int getMaxID() {
+        return maxID;
+    }
+
+    public int getID(int row) {
+        return ids[row];
+    }
+
+    /**
+     * Returns the status of a row, or null if the row was removed.
+     * Time Complexity: O(1)
+     */
+    public Book.Status getStatus(int row) {
+        byte status = statuses[row];
+        return status == REMOVED ? null : Book.Status.values()[status];
+    }
+
+    public void setStatus(int row, Book.Status status) {
+        if (statuses[row] != REMOVED) {
+            statuses[row] = (byte) status.ordinal();
+        }
+    }
+
+    /**
+     * Decodes the title of a row (creates a String).
+     * Time Complexity: O(k)
+     */
+    public String getTitle(int row) {
+        return new String(titleBytes, titleStart[row], titleStart[row + 1] - titleStart[row], StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Decodes the author of a row (creates a String).
+     * Time Complexity: O(k)
+     */
+    public String getAuthor(int row) {
+        int a = authorRefs[row];
+        return new String(authorBytes, authorStart[a], authorStart[a + 1] - authorStart[a], StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Creates a Book object for a row, or returns null if it was removed.
+     * Time Complexity: O(k)
+     */
+    public Book toBook(int row) {
+        Book.Status status = getStatus(row);
+        return status == null ? null : new Book(ids[row], getTitle(row), getAuthor(row), status);
+    }
+
+    /**
+     * Marks a row as removed. Its storage is kept (rows never move).
+     * Time Complexity: O(1)
+     */
+    public void remove(int row) {
+        if (statuses[row] != REMOVED) {
+            statuses[row] = REMOVED;
+            removeRow(ids[row]);
+            liveRows--;
+        }
+    }
+
+    /**
+     * Returns the row holding the given book ID, or -1.
+     * Time Complexity: O(1) average
+     */
+    public int rowOf(int id) {
+        int mask = rowKeys.length - 1;
+        int key = id + 1;
+        for (int slot = mix(key) & mask; rowKeys[slot] != 0; slot = (slot + 1) & mask) {
+            if (rowKeys[slot] == key) return rowValues[slot];
+        }
+        return -1;
+    }
+
+    /**
+     * Finds a book by ID.
+     * Time Complexity: O(1) average
+     * @return A copy of the book, or null if no book has this ID
+     */
+    public Book findByID(int id) {
+        int row = rowOf(id);
+        return row < 0 ? null : toBook(row);
+    }
+
+    /**
+     * Sets the status of the book with the given ID.
+     * Time Complexity: O(1) average
+     * @return true if the book exists
+     */
+    public boolean setStatusByID(int id, Book.Status status) {
+        int row = rowOf(id);
+        if (row < 0) return false;
+        setStatus(row, status);
+        return true;
+    }
+
+    // --- SCANS ---
+
+    /**
+     * Finds a book by title (case-insensitive) by scanning the title hash
+     * column; only rows whose hash matches are decoded and compared.
+     * Like the title tree, the book with the lowest ID wins when several
+     * share the title.
+     * Time Complexity: O(n)
+     * @return A copy of the book, or null if no book has this title
+     */
+    public Book findByTitle(String title) {
+        int hash = LazyCatalog.titleHash(title);
+        int found = -1;
+        for (int row = 0; row < size; row++) {
+            if (titleHashes[row] == hash && statuses[row] != REMOVED
+                    && (found < 0 || ids[row] < ids[found])
+                    && getTitle(row).equalsIgnoreCase(title)) {
+                found = row;
+            }
+        }
+        return found < 0 ? null : toBook(found);
+    }
+
+    /**
+     * Returns the first rows with the given status, in row order.
+     * Time Complexity: O(n) at most
+     */
+    public IntList rowsWith(Book.Status status, int limit) {
+        byte wanted = (byte) status.ordinal();
+        IntList rows = new IntList();
+        for (int row = 0; row < size && rows.size() < limit; row++) {
+            if (statuses[row] == wanted) rows.add(row);
+        }
+        return rows;
+    }
+
+    /**
+     * Counts the rows with the given status by scanning one byte column.
+     * Time Complexity: O(n)
+     */
+    public int count(Book.Status status) {
+        byte wanted = (byte) status.ordinal();
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (statuses[i] == wanted) count++;
+        }
+        return count;
+    }
+
+    /**
+     * Finds the rows whose title starts with the prefix (ASCII letters
+     * compared case-insensitively), comparing the stored bytes directly.
+     * Time Complexity: O(n * k) for a prefix of k bytes
+     * @return Matching rows in row order, at most limit of them
+     */
+    public IntList titlePrefixScan(String prefix, int limit) {
+        byte[] wanted = prefix.getBytes(StandardCharsets.UTF_8);
+        IntList rows = new IntList();
+        for (int row = 0; row < size && rows.size() < limit; row++) {
+            int start = titleStart[row];
+            if (statuses[row] == REMOVED || titleStart[row + 1] - start < wanted.length) continue;
+            boolean match = true;
+            for (int j = 0; j < wanted.length; j++) {
+                if (lower(titleBytes[start + j]) != lower(wanted[j])) {
+                    match = false;
+                    break;
+                }
+            }
+            if (match) rows.add(row);
+        }
+        return rows;
+    }
+
+    /**
+     * Writes all rows in the books.txt format, copying title and author
+     * bytes straight from the pools.
+     * Time Complexity: O(total bytes)
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        byte[] buffer = new byte[64 * 1024];
+        int position = 0;
+        byte[][] labels = new byte[Book.Status.values().length][];
+        for (Book.Status s : Book.Status.values()) {
+            labels[s.ordinal()] = s.label().getBytes(StandardCharsets.US_ASCII);
+        }
+
+        for (int row = 0; row < size; row++) {
+            if (statuses[row] == REMOVED) continue;
+            int a = authorRefs[row];
+            int titleLength = titleStart[row + 1] - titleStart[row];
+            int authorLength = authorStart[a + 1] - authorStart[a];
+            byte[] label = labels[statuses[row]];
+            int needed = 11 + titleLength + 1 + authorLength + 1 + label.length + 1;
+            if (position + needed > buffer.length) {
+                out.write(buffer, 0, position);
+                position = 0;
+                if (needed > buffer.length) buffer = new byte[needed];
+            }
+
+            position = writeInt(buffer, position, ids[row]);
+            buffer[position++] = ';';
+            System.arraycopy(titleBytes, titleStart[row], buffer, position, titleLength);
+            position += titleLength;
+            buffer[position++] = ';';
+            System.arraycopy(authorBytes, authorStart[a], buffer, position, authorLength);
+            position += authorLength;
+            buffer[position++] = ';';
+            System.arraycopy(label, 0, buffer, position, label.length);
+            position += label.length;
+            buffer[position++] = '\n';
+        }
+        out.write(buffer, 0, position);
+    }
+
+    /**
+     * Writes all books to a text catalog (books.txt format), in row order.
+     * Like FileIO.saveBooks, the file is written next to the target and
+     * moved over it at the end.
+     * Time Complexity: O(total bytes)
+     * @param fileName Path of the file to write
+     * @return true if the file was written and moved into place
+     */
+    public boolean save(String fileName) {
+        File temp = new File(fileName + ".tmp");
+        try (OutputStream out = new FileOutputStream(temp)) {
+            writeTo(out);
+        } catch (IOException e) {
+            System.out.println("Error saving books: " + e.getMessage());
+            return false;
+        }
+
+        try {
+            Files.move(temp.toPath(), Paths.get(fileName),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        } catch (IOException e) {
+            System.out.println("Error saving books: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Returns the approximate number of bytes used by the columns and pools.
+     * Time Complexity: O(1)
+     */
+    public long memoryBytes() {
+        return 4L * ids.length + statuses.length + 4L * titleStart.length + titleBytes.length
+                + 4L * authorRefs.length + 4L * titleHashes.length
+                + 4L * authorStart.length + authorBytes.length
+                + 8L * rowKeys.length;
+    }
+
+    // --- HELPERS ---
+
+    /**
+     * Returns the number of an author (UTF-8 bytes from..to of data) in
+     * the pool, adding it if it is new.
+     * Time Complexity: O(k) average
+     */
+    private int authorNumber(byte[] data, int from, int to) {
+        int hash = 1;
+        for (int i = from; i < to; i++) {
+            hash = 31 * hash + data[i];
+        }
+        int[] candidates = authorsByHash.get(hash);
+        if (candidates != null) {
+            for (int a : candidates) {
+                if (Arrays.equals(authorBytes, authorStart[a], authorStart[a + 1], data, from, to)) {
+                    return a;
+                }
+            }
+        }
+
+        int number = authorCount++;
+        if (authorCount + 1 > authorStart.length) {
+            authorStart = Arrays.copyOf(authorStart, authorStart.length * 2);
+        }
+        int length = to - from;
+        int start = authorStart[number];
+        if (start + length > authorBytes.length) {
+            authorBytes = Arrays.copyOf(authorBytes, Math.max(authorBytes.length * 2, start + length));
+        }
+        System.arraycopy(data, from, authorBytes, start, length);
+        authorStart[number + 1] = start + length;
+
+        int[] grown = (candidates == null) ? new int[1] : Arrays.copyOf(candidates, candidates.length + 1);
+        grown[grown.length - 1] = number;
+        authorsByHash.put(hash, grown);
+        return number;
+    }
+
+    private void putRow(int id, int row) {
+        if ((size * 2) > rowKeys.length) {
+            int[] oldKeys = rowKeys;
+            int[] oldValues = rowValues;
+            rowKeys = new int[oldKeys.length * 2];
+            rowValues = new int[oldKeys.length * 2];
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != 0) insertRow(oldKeys[i], oldValues[i]);
+            }
+        }
+        insertRow(id + 1, row);
+    }
+
+    private void insertRow(int key, int row) {
+        int mask = rowKeys.length - 1;
+        int slot = mix(key) & mask;
+        while (rowKeys[slot] != 0 && rowKeys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        rowKeys[slot] = key;
+        rowValues[slot] = row;
+    }
+
+    /**
+     * Deletes an ID from the row index, shifting later entries back so
+     * lookups never stop early (same scheme as IntHashMap).
+     */
+    private void removeRow(int id) {
+        int mask = rowKeys.length - 1;
+        int key = id + 1;
+        int slot = mix(key) & mask;
+        while (rowKeys[slot] != key) {
+            if (rowKeys[slot] == 0) return;
+            slot = (slot + 1) & mask;
+        }
+        int hole = slot;
+        for (int next = (hole + 1) & mask; rowKeys[next] != 0; next = (next + 1) & mask) {
+            int home = mix(rowKeys[next]) & mask;
+            // Move the entry into the hole if its home is not between the hole and its slot
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                rowKeys[hole] = rowKeys[next];
+                rowValues[hole] = rowValues[next];
+                hole = next;
+            }
+        }
+        rowKeys[hole] = 0;
+    }
+
+    /**
+     * Writes a decimal number into the buffer and returns the new position.
+     */
+    private static int writeInt(byte[] buffer, int position, int value) {
+        if (value < 0) {
+            buffer[position++] = '-';
+            value = -value;
+        }
+        int digits = 1;
+        for (int v = value; v >= 10; v /= 10) {
+            digits++;
+        }
+        for (int i = position + digits - 1; i >= position; i--) {
+            buffer[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        return position + digits;
+    }
+
+    private static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static int lower(byte b) {
+        return (b >= 'A' && b <= 'Z') ? b + 32 : b;
+    }
+}
@@ -0,0 +1,309 @@
+package library;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * DynamicArray Class
+ * Not thread-safe by itself; the Library only changes it while holding
+ * its catalog write lock.
+ *
+ * Removing a book leaves a tombstone (an empty slot) instead of shifting
+ * every later book, so get(i) returns null for a removed position until
+ * the array is compacted. size() counts slots, tombstones included;
+ * count() counts only the books. The array compacts itself once more
+ * than half of its slots are tombstones.
+ *
+ * An array that tracks slots (the Library's catalog) remembers in each
+ * Book where it is stored, so a book can be removed without searching.
+ */
+public class DynamicArray {
+
+    private static final int DEFAULT_CAPACITY = 5;
+    private static final double DEFAULT_GROWTH = 2.0;
+
+    private Book[] elements; // list of books
+    private int size; // Number of slots in use, removed ones included
+    private int capacity; // Maximum capacity of the array
+    private final int initialCapacity; // The array never shrinks below this
+    private int removed; // Number of tombstones among the used slots
+    private final double growthFactor; // Capacity is multiplied by this when the array is full
+    private final boolean tracksSlots; // Keep Book.slot up to date
+
+    /**
+     * Constructor
+     * Initializes the array with a default capacity.
+     * Time Complexity: O(1)
+     */
+    public DynamicArray() {
+        this(DEFAULT_CAPACITY, DEFAULT_GROWTH, false);
+    }
+
+    /**
+     * Constructor with a configurable growth policy, e.g. a large starting
+     * capacity for a catalog that is known to be big.
+     * Time Complexity: O(c) for an initial capacity of c
+     *
+     * @param initialCapacity Number of books the array holds before growing
+     * @param growthFactor Factor the capacity grows by when full (greater than 1)
+     * @param tracksSlots true to record each book's position in the book itself,
+     *                    which makes remove(Book) O(1); only one array may do this per book
+     */
+    public DynamicArray(int initialCapacity, double growthFactor, boolean tracksSlots) {
+        this.capacity = Math.max(1, initialCapacity);
+        this.initialCapacity = this.capacity;
+        this.growthFactor = Math.max(1.1, growthFactor);
+        this.tracksSlots = tracksSlots;
+        this.elements = new Book[capacity];
+        this.size = 0;
+    }
+
+    /**
+     * Adds a new book to the array.
+     * Automatically grows the array if it is full.
+     * Time Complexity: O(1) (Amortized), O(n) (Worst case when resizing)
+     *
+     * @param book The book object to add [Source: 13]
+     */
+    public void add(Book book) {
+        if (size == capacity) {
+            resize(grownCapacity(size + 1));
+        }
+        place(book, size);
+        size++;
+    }
+
+    /**
+     * Adds many books at once, growing the array at most once.
+     * Time Complexity: O(m) for m added books (plus O(n) if it grows)
+     *
+     * @param books The books to add, in order
+     */
+    public void addAll(Book[] books) {
+        if (size + books.length > capacity) {
+            resize(grownCapacity(size + books.length));
+        }
+        System.arraycopy(books, 0, elements, size, books.length);
+        if (tracksSlots) {
+            for (int i = 0; i < books.length; i++) {
+                books[i].slot = size + i;
+            }
+        }
+        size += books.length;
+    }
+
+    /**
+     * Returns the book at the specified index.
+     * Time Complexity: O(1)
+     *
+     * @param index The position of the book
+     * @return Book object, or null if the index is invalid or the book was removed
+     */
+    public Book get(int index) {
+        if (index < 0 || index >= size) {
+            System.out.println("Error: Index out of bounds.");
+            return null;
+        }
+        return elements[index];
+    }
+
+    /**
+     * Removes the book at the specified index by leaving a tombstone.
+     * Later books keep their positions until the array is compacted.
+     * Time Complexity: O(1) (Amortized; O(n) when it compacts itself)
+     *
+     * @param index The position of the book to remove
+     */
+    public void remove(int index) {
+        if (index < 0 || index >= size) {
+            System.out.println("Error: Index out of bounds.");
+            return;
+        }
+        if (elements[index] == null) {
+            return; // Already removed
+        }
+
+        elements[index] = null; // Leave a tombstone
+        removed++;
+
+        // Compact once the tombstones make up more than half of the slots
+        if (removed * 2 > size) {
+            compact();
+        }
+    }
+
+    /**
+     * Removes the given book.
+     * Time Complexity: O(1) if the array tracks slots, O(n) otherwise
+     *
+     * @return true if the book was in the array
+     */
+    public boolean remove(Book book) {
+        int index = indexOf(book);
+        if (index < 0) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+
+    /**
+     * Removes every book matching the filter in a single pass, moving the
+     * remaining books together with block copies.
+     * Time Complexity: O(n)
+     *
+     * @param filter Which books to remove
+     * @param onRemove Called with each removed book (may be null)
+     * @return Number of removed books
+     */
+    public int removeAll(Predicate<Book> filter, Consumer<Book> onRemove) {
+        int before = count();
+        for (int i = 0; i < size; i++) {
+            Book book = elements[i];
+            if (book != null && filter.test(book)) {
+                elements[i] = null;
+                removed++;
+                if (onRemove != null) {
+                    onRemove.accept(book);
+                }
+            }
+        }
+        compact();
+        return before - count();
+    }
+
+    /**
+     * Moves all books together, closing the gaps left by removed books.
+     * Books keep their order. Runs of books between tombstones are moved
+     * with System.arraycopy, and the array shrinks if it is mostly empty.
+     * Time Complexity: O(n)
+     */
+    public void compact() {
+        if (removed > 0) {
+            int write = 0;
+            int read = 0;
+            while (read < size) {
+                // Skip a run of tombstones, then move the following run of books
+                while (read < size && elements[read] == null) {
+                    read++;
+                }
+                int runStart = read;
+                while (read < size && elements[read] != null) {
+                    read++;
+                }
+                int run = read - runStart;
+                if (run > 0 && runStart != write) {
+                    System.arraycopy(elements, runStart, elements, write, run);
+                }
+                if (tracksSlots) {
+                    for (int i = write; i < write + run; i++) {
+                        elements[i].slot = i;
+                    }
+                }
+                write += run;
+            }
+            Arrays.fill(elements, write, size, null);
+            size = write;
+            removed = 0;
+        }
+
+        // Shrink the array if necessary, but not below the configured starting size
+        if (capacity > initialCapacity && size <= capacity / 4) {
+            resize(Math.max(initialCapacity, size * 2));
+        }
+    }
+
+    /**
+     * Returns the number of slots in use, including removed ones.
+     * Use this as the bound when walking the array with get(i).
+     * Time Complexity: O(1)
+     *
+     * @return Current size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of slots allocated, used or not.
+     * Time Complexity: O(1)
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the number of books in the array (removed ones not counted).
+     * Time Complexity: O(1)
+     */
+    public int count() {
+        return size - removed;
+    }
+
+    /**
+     * Returns the books in a new array sorted by ID.
+     * Indexes are built in this order so their ID lists stay sorted.
+     * Time Complexity: O(n log n)
+     */
+    public Book[] sortedByID() {
+        Book[] sorted = new Book[size];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (elements[i] != null) {
+                sorted[count++] = elements[i];
+            }
+        }
+        sorted = Arrays.copyOf(sorted, count);
+        Arrays.sort(sorted, (x, y) -> Integer.compare(x.getBookID(), y.getBookID()));
+        return sorted;
+    }
+
+    /**
+     * Finds the position of a book.
+     * Time Complexity: O(1) if the array tracks slots, O(n) otherwise
+     * @return The position, or -1 if the book is not in the array
+     */
+    public int indexOf(Book book) {
+        if (tracksSlots) {
+            int slot = book.slot;
+            return (slot >= 0 && slot < size && elements[slot] == book) ? slot : -1;
+        }
+        for (int i = 0; i < size; i++) {
+            if (elements[i] == book) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Stores a book in a slot, recording the slot in the book if tracked.
+     */
+    private void place(Book book, int index) {
+        elements[index] = book;
+        if (tracksSlots && book != null) {
+            book.slot = index;
+        }
+    }
+
+    /**
+     * Returns the capacity to grow to so that at least the given number
+     * of books fit, following the growth factor.
+     */
+    private int grownCapacity(int needed) {
+        long grown = (long) Math.ceil(capacity * growthFactor);
+        return (int) Math.min(Integer.MAX_VALUE - 8, Math.max(grown, needed));
+    }
+
+    /**
+     * Helper method to resize the array (Grow or Shrink).
+     * Creates a new array with the target capacity and copies elements
+     * with a single block copy.
+     * Time Complexity: O(n)
+     */
+    private void resize(int newCapacity) {
+        elements = Arrays.copyOf(elements, newCapacity);
+        capacity = newCapacity;
+    }
+}
@@ -0,0 +1,113 @@
+package library;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+
+/**
+ * FileIO Class
+ * Handles all file input/output operations for the library system.
+ * This class ensures data persistence for books and users 
+ */
+public class FileIO {
+
+    // File names for persistence storage
+    public static final String BOOK_FILE = "books.txt";
+    private static final String USER_FILE = "users.txt";
+
+    /**
+     * Loads books from the text file and populates the system.
+     * Reads line by line, splits data by semicolon, and adds to both Array and BST.
+     * Time Complexity: O(n) where n is the number of lines in the file.
+     * @param array The DynamicArray to populate 
+     * @param bst The Binary Search Tree to populate 
+     */
+    public static void loadBooks(DynamicArray array, BST bst) {
+        loadBooks(BOOK_FILE, array, bst);
+    }
+
+    /**
+     * Loads books from the given text file (same format as books.txt).
+     * The file is decoded straight from a byte buffer by BookCodec, so no
+     * temporary strings or split arrays are created per line.
+     * Time Complexity: O(n) where n is the number of lines in the file.
+     * @param fileName Path of the file to read
+     * @param array The DynamicArray to populate
+     * @param bst The Binary Search Tree to populate
+     */
+    public static void loadBooks(String fileName, DynamicArray array, BST bst) {
+        File file = new File(fileName);
+        if (!file.exists()) return; // If file doesn't exist, do nothing
+
+        try (InputStream in = new FileInputStream(file)) {
+            // Each line: ID;Title;Author;Status (lines without all 4 fields or a known status are skipped)
+            BookCodec.decode(in, book -> {
+                array.add(book);
+                bst.insert(book);
+            });
+        } catch (IOException e) {
+            System.out.println("Error loading books: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Saves all books from the DynamicArray back to the text file.
+     * Overwrites the existing file to reflect updates (e.g., status changes, new books).
+     * The data is written to a temporary file first and then moved over books.txt,
+     * so a crash in the middle of a save never leaves a half-written snapshot.
+     * Time Complexity: O(n) where n is the number of books.
+     * @param array The list of books to save 
+     * @return true if the snapshot was written and moved into place
+     */
+    public static boolean saveBooks(DynamicArray array) {
+        return saveBooks(BOOK_FILE, array);
+    }
+
+    /**
+     * Saves all books to the given text file (same format as books.txt).
+     * Lines are encoded into one reusable byte buffer by BookCodec.Writer.
+     * Time Complexity: O(n) where n is the number of books.
+     * @param fileName Path of the file to write
+     * @param array The list of books to save
+     * @return true if the file was written and moved into place
+     */
+    public static boolean saveBooks(String fileName, DynamicArray array) {
+        File temp = new File(fileName + ".tmp");
+        try (BookCodec.Writer writer = new BookCodec.Writer(new FileOutputStream(temp))) {
+            for (int i = 0; i < array.size(); i++) {
+                Book book = array.get(i);
+                if (book != null) {
+                    // Format: ID;Title;Author;Status
+                    writer.write(book);
+                }
+            }
+        } catch (IOException e) {
+            System.out.println("Error saving books: " + e.getMessage());
+            return false;
+        }
+
+        try {
+            Files.move(temp.toPath(), Paths.get(fileName),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        } catch (IOException e) {
+            System.out.println("Error saving books: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Appends a new user or log entry to the user file.
+     * Uses append mode (true) so previous data is not lost.
+     * Time Complexity: O(1) (Appends to the end of file)
+     * @param userName The string data to write to the file
+     */
+    public static synchronized void appendUser(String userName) {
+        try (BufferedWriter bw = new BufferedWriter(new FileWriter(USER_FILE, StandardCharsets.UTF_8, true))) {
+            bw.write(userName);
+            bw.newLine();
+        } catch (IOException e) {
+            System.out.println("Error adding user: " + e.getMessage());
+        }
+    }
+}
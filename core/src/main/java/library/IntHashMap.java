@@ -0,0 +1,207 @@
+package library;
+
+/**
+ * IntHashMap Class
+ * An open-addressing hash table that maps primitive int keys to values.
+ * Keys are stored in a plain int[] so lookups never box an Integer.
+ * Used by the Library to find books by ID without scanning the catalog.
+ *
+ * Collisions are resolved with linear probing. Removal uses backward-shift
+ * deletion, so the table never fills up with tombstones.
+ */
+public class IntHashMap<V> {
+
+    private static final int DEFAULT_CAPACITY = 16; // Must be a power of two
+    private static final float MAX_LOAD = 0.5f;     // Keep probe chains short
+
+    private int[] keys;      // Keys of the occupied slots
+    private Object[] values; // Values; a null value marks an empty slot
+    private int size;        // Number of stored entries
+    private int mask;        // capacity - 1, used instead of the modulo operator
+
+    /**
+     * Constructs an empty map with the default capacity.
+     * Time Complexity: O(1)
+     */
+    public IntHashMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty map sized for the expected number of entries.
+     * Time Complexity: O(n) where n is the initial capacity
+     * @param expectedSize Number of entries the map should hold without resizing
+     */
+    public IntHashMap(int expectedSize) {
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity * MAX_LOAD < expectedSize) {
+            capacity *= 2;
+        }
+        this.keys = new int[capacity];
+        this.values = new Object[capacity];
+        this.mask = capacity - 1;
+        this.size = 0;
+    }
+
+    /**
+     * Spreads the bits of the key so that sequential IDs do not cluster.
+     * Time Complexity: O(1)
+     */
+    private static int hash(int key) {
+        int h = key * 0x9E3779B9; // Fibonacci hashing constant
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Returns the value stored for the key, or null if there is none.
+     * Time Complexity: O(1) average
+     */
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        int i = hash(key) & mask;
+        while (values[i] != null) {
+            if (keys[i] == key) {
+                return (V) values[i];
+            }
+            i = (i + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * Checks if the map contains the key.
+     * Time Complexity: O(1) average
+     */
+    public boolean containsKey(int key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Stores the value for the key, replacing any previous value.
+     * Time Complexity: O(1) amortized, O(n) when the table is resized
+     * @param key The int key (e.g. a book ID)
+     * @param value The value to store; must not be null
+     * @return The previous value, or null if the key was new
+     */
+    @SuppressWarnings("unchecked")
+    public V put(int key, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("IntHashMap does not store null values");
+        }
+        int i = hash(key) & mask;
+        while (values[i] != null) {
+            if (keys[i] == key) {
+                V old = (V) values[i];
+                values[i] = value;
+                return old;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        values[i] = value;
+        size++;
+
+        if (size > keys.length * MAX_LOAD) {
+            resize(keys.length * 2);
+        }
+        return null;
+    }
+
+    /**
+     * Removes the entry for the key.
+     * Later entries of the same probe chain are shifted back so that
+     * lookups never need to skip over deleted slots.
+     * Time Complexity: O(1) average
+     * @return The removed value, or null if the key was not present
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(int key) {
+        int i = hash(key) & mask;
+        while (values[i] != null) {
+            if (keys[i] == key) {
+                V old = (V) values[i];
+                shiftBack(i);
+                size--;
+                return old;
+            }
+            i = (i + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * Backward-shift deletion: fills the hole at index 'gap' by moving
+     * entries whose home slot is at or before the hole.
+     * Time Complexity: O(1) average (length of the probe chain)
+     */
+    private void shiftBack(int gap) {
+        int i = (gap + 1) & mask;
+        while (values[i] != null) {
+            int home = hash(keys[i]) & mask;
+            // Move the entry if the gap lies cyclically between its home and i
+            if (((i - home) & mask) >= ((i - gap) & mask)) {
+                keys[gap] = keys[i];
+                values[gap] = values[i];
+                gap = i;
+            }
+            i = (i + 1) & mask;
+        }
+        values[gap] = null;
+    }
+
+    /**
+     * Returns the number of entries in the map.
+     * Time Complexity: O(1)
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns all keys currently in the map, in no particular order.
+     * Time Complexity: O(n) where n is the capacity
+     */
+    public int[] keys() {
+        int[] result = new int[size];
+        int count = 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (values[i] != null) {
+                result[count++] = keys[i];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Removes all entries while keeping the allocated capacity.
+     * Time Complexity: O(n) where n is the capacity
+     */
+    public void clear() {
+        java.util.Arrays.fill(values, null);
+        size = 0;
+    }
+
+    /**
+     * Helper method to grow the table and re-insert all entries.
+     * Time Complexity: O(n)
+     */
+    private void resize(int newCapacity) {
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+
+        keys = new int[newCapacity];
+        values = new Object[newCapacity];
+        mask = newCapacity - 1;
+
+        for (int j = 0; j < oldKeys.length; j++) {
+            if (oldValues[j] != null) {
+                int i = hash(oldKeys[j]) & mask;
+                while (values[i] != null) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = oldKeys[j];
+                values[i] = oldValues[j];
+            }
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package library;
+
+import java.util.Arrays;
+
+/**
+ * IntList Class
+ * A growable list of primitive ints (e.g. book IDs in a posting list).
+ * Works like DynamicArray, but stores ints directly instead of objects.
+ */
+public class IntList {
+
+    private int[] elements;
+    private int size;
+
+    /**
+     * Constructor
+     * Time Complexity: O(1)
+     */
+    public IntList() {
+        this(4);
+    }
+
+    /**
+     * Constructor
+     * Time Complexity: O(n) where n is the initial capacity
+     * @param capacity Number of elements the list can hold before growing
+     */
+    public IntList(int capacity) {
+        this.elements = new int[Math.max(1, capacity)];
+        this.size = 0;
+    }
+
+    /**
+     * Appends a value to the end of the list.
+     * Time Complexity: O(1) amortized
+     */
+    public void add(int value) {
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, size * 2);
+        }
+        elements[size++] = value;
+    }
+
+    /**
+     * Inserts a value into a list kept in ascending order, unless it is
+     * already there. Appending a value larger than all others (the usual
+     * case for new IDs) needs no search or shift.
+     * Time Complexity: O(1) amortized when appending, O(n) otherwise
+     * @return true if the value was inserted, false if it was present
+     */
+    public boolean addSorted(int value) {
+        if (size == 0 || elements[size - 1] < value) {
+            add(value);
+            return true;
+        }
+        int pos = Arrays.binarySearch(elements, 0, size, value);
+        if (pos >= 0) {
+            return false;
+        }
+        pos = -pos - 1;
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, size * 2);
+        }
+        System.arraycopy(elements, pos, elements, pos + 1, size - pos);
+        elements[pos] = value;
+        size++;
+        return true;
+    }
+
+    /**
+     * Returns the value at the given position.
+     * Time Complexity: O(1)
+     */
+    public int get(int index) {
+        return elements[index];
+    }
+
+    /**
+     * Returns the number of values in the list.
+     * Time Complexity: O(1)
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the values found in both sorted lists, in ascending order.
+     * Walks the shorter list and gallops through the longer one, so a short
+     * list intersected with a very long one only costs O(s log(l / s)).
+     * Time Complexity: O(s log l) worst case for lists of s <= l values
+     */
+    public static IntList intersect(IntList a, IntList b) {
+        IntList small = (a.size <= b.size) ? a : b;
+        IntList large = (small == a) ? b : a;
+        IntList result = new IntList(small.size);
+
+        int from = 0;
+        for (int i = 0; i < small.size && from < large.size; i++) {
+            int value = small.elements[i];
+
+            // Gallop: double the step until we pass the value, then binary search
+            int step = 1;
+            int hi = from;
+            while (hi < large.size && large.elements[hi] < value) {
+                from = hi;
+                hi += step;
+                step *= 2;
+            }
+            int pos = Arrays.binarySearch(large.elements, from, Math.min(hi + 1, large.size), value);
+            if (pos >= 0) {
+                result.add(value);
+                from = pos + 1;
+            } else {
+                from = -pos - 1;
+            }
+        }
+        return result;
+    }
+}
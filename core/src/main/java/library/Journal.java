@@ -0,0 +1,321 @@
+package library;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.*;
+
+/**
+ * Journal Class
+ * An append-only operation log (write-ahead log) for catalog changes.
+ * Instead of rewriting books.txt on every mutation, the Library appends one
+ * short line per change here. books.txt becomes a snapshot that is only
+ * rewritten during compaction, so the cost of a single change stays
+ * constant no matter how large the catalog is.
+ *
+ * Entry format (one per line):
+ *   A;ID;Title;Author;Status   - book added
+ *   R;ID                       - book removed
+ *   S;ID;Status                - status changed
+ *
+ * In group-commit mode entries are collected in memory and written with a
+ * single write and a single fsync once a batch is full or a short time
+ * window has passed, whichever comes first. Bursts of checkouts then share
+ * one disk round trip instead of paying for one each.
+ */
+public class Journal {
+
+    public static final String JOURNAL_FILE = "books.journal";
+    private static final int DEFAULT_COMPACT_THRESHOLD = 1000;
+
+    private final String fileName;
+    private final int compactThreshold; // Entries allowed before a snapshot is due
+    private FileOutputStream out;       // Underlying file, needed for fsync
+    private BufferedWriter writer;      // Kept open for the life of the journal
+    private int entryCount;             // Entries written since the last snapshot
+
+    // --- Group-commit settings and state ---
+    private final boolean groupCommit;  // false: every entry is flushed on its own
+    private final int batchSize;        // Flush once this many entries are pending
+    private final long maxDelayMillis;  // ...or once the oldest pending entry is this old
+    private int pending;                // Entries buffered but not yet flushed
+    private boolean flushScheduled;     // A timed flush is already queued
+    private ScheduledExecutorService flusher; // Background thread for timed flushes
+
+    // --- Group-commit counters ---
+    private long batchCount;            // Number of flushed batches
+    private long flushedEntries;        // Entries written by those batches
+    private int largestBatch;           // Largest batch seen so far
+    private long totalFlushNanos;       // Time spent in write + fsync
+    private long maxFlushNanos;         // Slowest single flush
+
+    /**
+     * Constructor
+     * Uses the default journal file and compaction threshold.
+     * Time Complexity: O(1)
+     */
+    public Journal() {
+        this(JOURNAL_FILE, DEFAULT_COMPACT_THRESHOLD);
+    }
+
+    /**
+     * Constructor
+     * Time Complexity: O(1)
+     * @param fileName Path of the journal file
+     * @param compactThreshold Number of entries after which compaction is due
+     */
+    public Journal(String fileName, int compactThreshold) {
+        this.fileName = fileName;
+        this.compactThreshold = compactThreshold;
+        this.entryCount = 0;
+        this.groupCommit = false;
+        this.batchSize = 1;
+        this.maxDelayMillis = 0;
+    }
+
+    /**
+     * Constructor for group-commit mode.
+     * Smaller batches and delays lose fewer entries on a crash; larger ones
+     * need fewer fsyncs under load.
+     * Time Complexity: O(1)
+     * @param fileName Path of the journal file
+     * @param compactThreshold Number of entries after which compaction is due
+     * @param batchSize Number of pending entries that triggers a flush
+     * @param maxDelayMillis Longest time an entry may wait before it is flushed
+     */
+    public Journal(String fileName, int compactThreshold, int batchSize, long maxDelayMillis) {
+        this.fileName = fileName;
+        this.compactThreshold = compactThreshold;
+        this.entryCount = 0;
+        this.groupCommit = true;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxDelayMillis = Math.max(0, maxDelayMillis);
+    }
+
+    /**
+     * Replays the journal on top of the snapshot that was just loaded.
+     * Replay is idempotent, so a crash between writing a snapshot and
+     * truncating the journal does not duplicate or lose books.
+     * Time Complexity: O(k log n) for k entries (removals are O(1) in an array
+     * that tracks slots, O(n) otherwise)
+     * @param array The catalog loaded from the snapshot
+     * @param bst The title tree loaded from the snapshot
+     * @param index The ID index of the loaded catalog
+     * @return The number of entries that were replayed
+     */
+    public int replay(DynamicArray array, BST bst, IntHashMap<Book> index) {
+        File file = new File(fileName);
+        if (!file.exists()) return 0;
+
+        int replayed = 0;
+        try (BufferedReader br = new BufferedReader(new FileReader(file, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = br.readLine()) != null) {
+                String[] data = line.split(";");
+
+                if (data[0].equals("A") && data.length == 5) {
+                    int id = Integer.parseInt(data[1]);
+                    if (index.containsKey(id)) {
+                        continue; // Already part of the snapshot
+                    }
+                    Book.Status status = Book.Status.parse(data[4]);
+                    if (status == null) {
+                        continue; // Damaged line
+                    }
+                    Book book = new Book(id, data[2], StringPool.AUTHORS.intern(data[3]), status);
+                    array.add(book);
+                    bst.insert(book);
+                    index.put(id, book);
+                } else if (data[0].equals("R") && data.length == 2) {
+                    Book book = index.remove(Integer.parseInt(data[1]));
+                    if (book != null) {
+                        array.remove(book);
+                        bst.remove(book);
+                    }
+                } else if (data[0].equals("S") && data.length == 3) {
+                    Book.Status status = Book.Status.parse(data[2]);
+                    if (status == null) {
+                        continue; // Damaged line
+                    }
+                    Book book = index.get(Integer.parseInt(data[1]));
+                    if (book != null) {
+                        book.setStatus(status);
+                    }
+                } else {
+                    continue; // Torn or unknown line, e.g. after a crash mid-write
+                }
+                replayed++;
+            }
+        } catch (IOException | NumberFormatException e) {
+            System.out.println("Error replaying journal: " + e.getMessage());
+        }
+        entryCount = replayed;
+        return replayed;
+    }
+
+    /**
+     * Records that a book was added.
+     * Time Complexity: O(1)
+     */
+    public void logAdd(Book book) {
+        append("A;" + book.getBookID() + ";" + book.getTitle() + ";"
+                + book.getAuthor() + ";" + book.getStatus());
+    }
+
+    /**
+     * Records that a book was removed.
+     * Time Complexity: O(1)
+     */
+    public void logRemove(int bookID) {
+        append("R;" + bookID);
+    }
+
+    /**
+     * Records a status change (borrow, return or undo).
+     * Time Complexity: O(1)
+     */
+    public void logStatus(int bookID, String status) {
+        append("S;" + bookID + ";" + status);
+    }
+
+    /**
+     * Appends a single entry.
+     * Without group commit the entry is flushed to the operating system
+     * right away; with group commit it waits for its batch.
+     * Time Complexity: O(1) amortized
+     */
+    private synchronized void append(String entry) {
+        try {
+            if (writer == null) {
+                out = new FileOutputStream(fileName, true);
+                writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 1 << 16);
+            }
+            writer.write(entry);
+            writer.newLine();
+            entryCount++;
+
+            if (!groupCommit) {
+                writer.flush();
+                return;
+            }
+
+            pending++;
+            if (pending >= batchSize || maxDelayMillis == 0) {
+                flush();
+            } else if (!flushScheduled) {
+                scheduleFlush();
+            }
+        } catch (IOException e) {
+            System.out.println("Error writing journal: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Queues a flush of the current batch once the time window has passed.
+     * Time Complexity: O(1)
+     */
+    private void scheduleFlush() {
+        if (flusher == null) {
+            flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "journal-flusher");
+                t.setDaemon(true); // Must not keep the program alive on exit
+                return t;
+            });
+        }
+        flushScheduled = true;
+        flusher.schedule(this::timedFlush, maxDelayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Runs on the flusher thread when a batch's time window expires.
+     * Time Complexity: O(b) for b pending entries
+     */
+    private synchronized void timedFlush() {
+        flushScheduled = false;
+        flush();
+    }
+
+    /**
+     * Writes all pending entries with one write and one fsync,
+     * and updates the batch counters.
+     * Time Complexity: O(b) for b pending entries
+     */
+    public synchronized void flush() {
+        if (writer == null || pending == 0) return;
+
+        long start = System.nanoTime();
+        try {
+            writer.flush();
+            out.getFD().sync(); // Make the whole batch durable at once
+        } catch (IOException e) {
+            System.out.println("Error flushing journal: " + e.getMessage());
+        }
+        long elapsed = System.nanoTime() - start;
+
+        batchCount++;
+        flushedEntries += pending;
+        largestBatch = Math.max(largestBatch, pending);
+        totalFlushNanos += elapsed;
+        maxFlushNanos = Math.max(maxFlushNanos, elapsed);
+        pending = 0;
+    }
+
+    /**
+     * Returns the group-commit counters as a one-line summary.
+     * Time Complexity: O(1)
+     */
+    public synchronized String stats() {
+        double avgBatch = batchCount == 0 ? 0 : (double) flushedEntries / batchCount;
+        double avgMicros = batchCount == 0 ? 0 : totalFlushNanos / 1000.0 / batchCount;
+        return String.format("batches=%d entries=%d avgBatch=%.1f maxBatch=%d avgFlush=%.1fus maxFlush=%.1fus",
+                batchCount, flushedEntries, avgBatch, largestBatch, avgMicros, maxFlushNanos / 1000.0);
+    }
+
+    /**
+     * Checks if the journal holds no entries, i.e. the snapshot on disk
+     * is already the complete catalog.
+     * Time Complexity: O(1)
+     */
+    public synchronized boolean isEmpty() {
+        return entryCount == 0 && new File(fileName).length() == 0;
+    }
+
+    /**
+     * Checks if enough entries have piled up to make a new snapshot worthwhile.
+     * Time Complexity: O(1)
+     */
+    public synchronized boolean needsCompaction() {
+        return entryCount >= compactThreshold;
+    }
+
+    /**
+     * Empties the journal after a snapshot containing all of its entries
+     * has been written.
+     * Time Complexity: O(1)
+     */
+    public synchronized void truncate() {
+        close();
+        try {
+            new FileWriter(fileName).close(); // Opening without append mode truncates the file
+        } catch (IOException e) {
+            System.out.println("Error truncating journal: " + e.getMessage());
+        }
+        entryCount = 0;
+    }
+
+    /**
+     * Flushes any pending batch and closes the underlying file.
+     * A later append reopens it.
+     * Time Complexity: O(b) for b pending entries
+     */
+    public synchronized void close() {
+        if (writer == null) return;
+        flush();
+        try {
+            writer.close();
+        } catch (IOException e) {
+            System.out.println("Error closing journal: " + e.getMessage());
+        }
+        writer = null;
+        out = null;
+    }
+}
@@ -0,0 +1,285 @@
+package library;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.Arrays;
+
+/**
+ * LazyCatalog Class
+ * A lightweight, read-only view of books.txt used for fast startup.
+ * Instead of creating a Book for every line, it only remembers where each
+ * line starts, sorted by ID and by title hash. A Book is decoded from the
+ * file the first time it is looked up.
+ *
+ * Each line costs three longs (its offset and two index entries),
+ * regardless of how long its title and author are.
+ */
+public class LazyCatalog {
+
+    private final String fileName;
+    private long[] offsets;   // offsets[row] = byte position where line 'row' starts
+    private long[] byID;      // (ID << 32 | row), sorted
+    private long[] byTitle;   // (title hash << 32 | row), sorted
+    private int rows;         // Number of indexed lines
+    private int maxID;        // Highest ID seen while indexing
+    private IntHashMap<Book> decoded = new IntHashMap<>(); // Row -> book already materialized
+
+    /**
+     * Constructor
+     * Scans the file once and builds the offset indexes.
+     * Time Complexity: O(n log n) for n lines (sorting the two indexes)
+     * @param fileName Path of the text catalog
+     */
+    public LazyCatalog(String fileName) {
+        this.fileName = fileName;
+        this.offsets = new long[1024];
+        this.byID = new long[1024];
+        this.byTitle = new long[1024];
+        this.rows = 0;
+        this.maxID = 0;
+        buildIndexes();
+    }
+
+    /**
+     * Reads the file sequentially and records, for each valid line, its
+     * start offset, its ID and the hash of its title. Only the bytes of the
+     * ID and the title are inspected; no Strings are created for ASCII titles.
+     * Time Complexity: O(n log n)
+     */
+    private void buildIndexes() {
+        File file = new File(fileName);
+        if (!file.exists()) return;
+
+        try (InputStream in = new FileInputStream(file)) {
+            byte[] chunk = new byte[1 << 16];
+            byte[] line = new byte[256];
+            int length = 0;
+            long lineStart = 0;
+            long position = 0;
+            int read;
+            while ((read = in.read(chunk)) != -1) {
+                for (int i = 0; i < read; i++) {
+                    position++;
+                    if (chunk[i] == '\n') {
+                        indexLine(line, length, lineStart);
+                        length = 0;
+                        lineStart = position;
+                    } else {
+                        if (length == line.length) {
+                            line = Arrays.copyOf(line, length * 2);
+                        }
+                        line[length++] = chunk[i];
+                    }
+                }
+            }
+            if (length > 0) {
+                indexLine(line, length, lineStart);
+            }
+        } catch (IOException e) {
+            System.out.println("Error indexing books: " + e.getMessage());
+        }
+
+        Arrays.sort(byID, 0, rows);
+        Arrays.sort(byTitle, 0, rows);
+    }
+
+    /**
+     * Adds one line (ID;Title;Author;Status) to the indexes.
+     * Lines that BookCodec would skip are skipped too: those without
+     * exactly four fields, with an ID that is not a non-negative number,
+     * or with an unknown status.
+     * Time Complexity: O(k) for a line of k bytes
+     */
+    private void indexLine(byte[] line, int length, long start) {
+        if (length > 0 && line[length - 1] == '\r') {
+            length--;
+        }
+
+        // Locate the three separators
+        int first = -1, second = -1, third = -1, separators = 0;
+        for (int i = 0; i < length; i++) {
+            if (line[i] == ';') {
+                separators++;
+                if (separators == 1) first = i;
+                else if (separators == 2) second = i;
+                else if (separators == 3) third = i;
+            }
+        }
+        if (separators != 3 || third == length - 1) {
+            return;
+        }
+
+        // Parse the ID directly from the digits, and check the status label
+        long id = BookCodec.parseID(line, 0, first);
+        if (id < 0 || BookCodec.parseStatus(line, third + 1, length) == null) return;
+
+        if (rows == offsets.length) {
+            offsets = Arrays.copyOf(offsets, rows * 2);
+            byID = Arrays.copyOf(byID, rows * 2);
+            byTitle = Arrays.copyOf(byTitle, rows * 2);
+        }
+        offsets[rows] = start;
+        byID[rows] = (id << 32) | rows;
+        byTitle[rows] = ((long) titleHash(line, first + 1, second) << 32) | rows;
+        rows++;
+        maxID = Math.max(maxID, (int) id);
+    }
+
+    /**
+     * Case-insensitive hash of a title stored as UTF-8 bytes.
+     * Must agree with titleHash(String) for the same title.
+     * Time Complexity: O(k)
+     */
+    static int titleHash(byte[] bytes, int from, int to) {
+        int h = 0;
+        for (int i = from; i < to; i++) {
+            if (bytes[i] < 0) {
+                // Non-ASCII title: decode it so case folding matches String rules
+                return titleHash(new String(bytes, from, to - from, StandardCharsets.UTF_8));
+            }
+            h = 31 * h + foldCase((char) bytes[i]);
+        }
+        return h;
+    }
+
+    /**
+     * Case-insensitive hash of a title.
+     * Time Complexity: O(k)
+     */
+    static int titleHash(String title) {
+        int h = 0;
+        for (int i = 0; i < title.length(); i++) {
+            h = 31 * h + foldCase(title.charAt(i));
+        }
+        return h;
+    }
+
+    /**
+     * Folds a character the same way compareToIgnoreCase does.
+     */
+    private static char foldCase(char c) {
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    /**
+     * Finds a book by ID, decoding it from the file on first access.
+     * Time Complexity: O(log n) plus one read of a single line
+     * @return The Book, or null if no line has this ID
+     */
+    public synchronized Book findByID(int id) {
+        int row = firstRow(byID, id);
+        return row < 0 ? null : materialize(row);
+    }
+
+    /**
+     * Finds a book by title (case-insensitive).
+     * Rows with the same title hash are decoded and compared, and the
+     * book with the lowest ID wins, as in the BST.
+     * Time Complexity: O(log n) plus one line read per hash collision
+     * @return The Book, or null if no line has this title
+     */
+    public synchronized Book findByTitle(String title) {
+        int hash = titleHash(title);
+        long key = (long) hash << 32;
+        int pos = Arrays.binarySearch(byTitle, 0, rows, key);
+        if (pos < 0) pos = -pos - 1;
+
+        Book found = null;
+        for (; pos < rows && (int) (byTitle[pos] >> 32) == hash; pos++) {
+            Book book = materialize((int) byTitle[pos]);
+            if (book != null && book.getTitle().equalsIgnoreCase(title)
+                    && (found == null || book.getBookID() < found.getBookID())) {
+                found = book;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Returns the first row whose packed key has the given upper half.
+     * Time Complexity: O(log n)
+     */
+    private int firstRow(long[] index, int key) {
+        long packed = (long) key << 32;
+        int pos = Arrays.binarySearch(index, 0, rows, packed);
+        if (pos < 0) pos = -pos - 1;
+        if (pos < rows && (int) (index[pos] >> 32) == key) {
+            return (int) index[pos];
+        }
+        return -1;
+    }
+
+    /**
+     * Decodes the Book stored on the given line. An earlier result is
+     * returned without touching the file, so the same line is always the
+     * same object.
+     * Time Complexity: O(1) if already decoded, otherwise O(k) for a line of k bytes
+     */
+    private Book materialize(int row) {
+        Book book = decoded.get(row);
+        if (book != null) {
+            return book;
+        }
+
+        try (FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(256);
+            long position = offsets[row];
+            int scanned = 0; // Bytes already searched for the newline
+            int end;
+            while (true) {
+                if (channel.read(buffer, position + buffer.position()) <= 0) {
+                    end = buffer.position(); // Last line without a newline
+                    break;
+                }
+                end = indexOfNewline(buffer, scanned);
+                if (end >= 0) break;
+                scanned = buffer.position();
+                if (!buffer.hasRemaining()) {
+                    ByteBuffer bigger = ByteBuffer.allocate(buffer.capacity() * 2);
+                    buffer.flip();
+                    bigger.put(buffer);
+                    buffer = bigger;
+                }
+            }
+            if (end > 0 && buffer.get(end - 1) == '\r') end--;
+
+            String[] data = new String(buffer.array(), 0, end, StandardCharsets.UTF_8).split(";");
+            book = new Book(Integer.parseInt(data[0]), data[1], StringPool.AUTHORS.intern(data[2]), data[3]);
+            decoded.put(row, book);
+            return book;
+        } catch (IOException | RuntimeException e) {
+            System.out.println("Error reading book: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Returns the index of the first '\n' among the bytes read so far,
+     * starting at 'from' (the bytes before it were searched already), or -1.
+     */
+    private static int indexOfNewline(ByteBuffer buffer, int from) {
+        for (int i = from; i < buffer.position(); i++) {
+            if (buffer.get(i) == '\n') return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the number of indexed books.
+     * Time Complexity: O(1)
+     */
+    public int size() {
+        return rows;
+    }
+
+    /**
+     * Returns the highest book ID in the file.
+     * Time Complexity: O(1)
+     */
+    public int getMaxID() {
+        return maxID;
+    }
+}
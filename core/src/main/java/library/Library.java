@@ -0,0 +1,1305 @@
+package library;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Library Class
+ * Manages the entire system by integrating DynamicArray, BST, Queue, and UndoHistory.
+ * [cite_start]Handles File I/O for persistence via helper class[cite: 67, 86].
+ * Changes are appended to a Journal; books.txt is only rewritten as a
+ * snapshot when the journal is compacted.
+ *
+ * The class is thread-safe, so several front-desk terminals can share one
+ * instance. Adding and removing books changes the shared structures and
+ * takes the catalog write lock. Borrow, return and undo only change one
+ * book's status: they share the catalog read lock and then lock the stripe
+ * that the book's ID maps to, so checkouts of unrelated books never wait
+ * for each other.
+ */
+public class Library {
+
+    // --- Data Structures ---
+    private DynamicArray catalog;   // Main list to store books (Array) [cite: 10]
+    private BST bookTree;           // BST for title-based searching [cite: 21]
+    private IntHashMap<Book> bookIndex; // Hash index for O(1) lookups by ID
+    private TitleSearch titleSearch; // Trigram index for prefix and substring title search
+    private AuthorIndex authorIndex; // Author name words -> book IDs
+    private QueryEngine queryEngine; // Combines the indexes for multi-field searches
+    private AvailabilityIndex availability; // One bit per book ID, set while available
+    private MpscQueue borrowRequests; // Lock-free queue for managing waiting list [cite: 28]
+    private Waitlists waitlists;    // Requests sorted into one FIFO list per book
+    private UndoHistory history;    // Bounded undo/redo history of all changes [cite: 36]
+    private Journal journal;        // Append-only log of changes since the last snapshot
+    private boolean binarySnapshot; // Snapshot is books.bin instead of books.txt
+    private volatile LazyCatalog lazyCatalog; // Offset index used until the full catalog is loaded
+    private volatile OffHeapCatalog offHeapCatalog; // Off-heap records used until the full catalog is loaded
+    private volatile ColumnarCatalog columnarCatalog; // Columns used until the full catalog is loaded
+    private volatile LookupCache<Integer, Book> idCache;   // Hot searchByID results (null: no cache)
+    private volatile LookupCache<String, Book> titleCache; // Hot searchByTitle results, by folded title
+
+    private int lastBookID = 100;   // Counter for auto-generating IDs
+    private static final int SEARCH_LIMIT = 20; // Maximum results shown for a partial search
+    private static final int UNDO_LIMIT = 256;  // Actions kept in the undo history
+    private static final int CATALOG_CAPACITY = 1024; // Starting capacity of the catalog array
+
+    // --- Concurrency ---
+    private static final int LOCK_STRIPES = 64; // Must be a power of two
+    private final ReentrantReadWriteLock catalogLock = new ReentrantReadWriteLock();
+    private final ReentrantLock[] bookLocks = new ReentrantLock[LOCK_STRIPES];
+    private final Object requestConsumer = new Object(); // Only one thread drains the queue at a time
+
+    // Where each thread's messages go (System.out unless a server connection redirects it)
+    private final ThreadLocal<PrintStream> output = ThreadLocal.withInitial(() -> System.out);
+
+    /**
+     * Constructor
+     * Initializes all data structures and loads existing data from files.
+     */
+    public Library() {
+        this(new Journal());
+    }
+
+    /**
+     * Constructor
+     * Same as above, but persists changes through the given journal
+     * (e.g. one configured for group commit).
+     */
+    public Library(Journal journal) {
+        this(journal, false);
+    }
+
+    /**
+     * Constructor
+     * In lazy mode only a lightweight offset index over books.txt is built.
+     * Lookups by ID or title decode single books from the file; the full
+     * catalog is loaded the first time any other operation needs it.
+     * Lazy mode falls back to a normal load if a binary snapshot or
+     * unreplayed journal entries exist.
+     * @param journal Journal used to persist changes
+     * @param lazy true to defer creating Book objects until they are needed
+     */
+    public Library(Journal journal, boolean lazy) {
+        this(journal, lazy, false);
+    }
+
+    /**
+     * Constructor
+     * In off-heap mode the books are kept in direct memory (OffHeapCatalog)
+     * instead of as Book objects, so the heap and the GC pauses stay small.
+     * Lookups by ID or title, borrowing and returning are served from it;
+     * the full catalog is loaded the first time any other operation needs it.
+     * Like lazy mode, it falls back to a normal load if a binary snapshot
+     * or unreplayed journal entries exist, or if the direct memory runs out.
+     * @param journal Journal used to persist changes
+     * @param lazy true to defer creating Book objects until they are needed
+     * @param offHeap true to keep the books off the heap (takes precedence over lazy)
+     */
+    public Library(Journal journal, boolean lazy, boolean offHeap) {
+        this(journal, lazy, offHeap, false);
+    }
+
+    /**
+     * Constructor
+     * In columnar mode the books are kept as primitive columns
+     * (ColumnarCatalog) instead of as Book objects: IDs, status bytes and
+     * pooled title and author bytes. Lookups by ID or title, borrowing,
+     * returning and the list of available books are served from it, the
+     * title lookup and the available count by scanning a single column;
+     * the full catalog is loaded the first time any other operation needs it.
+     * Like lazy mode, it falls back to a normal load if a binary snapshot
+     * or unreplayed journal entries exist.
+     * @param journal Journal used to persist changes
+     * @param lazy true to defer creating Book objects until they are needed
+     * @param offHeap true to keep the books off the heap (takes precedence over the others)
+     * @param columnar true to keep the books in columns (takes precedence over lazy)
+     */
+    public Library(Journal journal, boolean lazy, boolean offHeap, boolean columnar) {
+        catalog = new DynamicArray(CATALOG_CAPACITY, 2.0, true); // Tracks slots for O(1) removal
+        bookTree = new BST();
+        bookIndex = new IntHashMap<>();
+        titleSearch = new TitleSearch(bookIndex);
+        authorIndex = new AuthorIndex();
+        availability = new AvailabilityIndex();
+        queryEngine = new QueryEngine(bookIndex, catalog, titleSearch, authorIndex, availability);
+        borrowRequests = new MpscQueue();
+        waitlists = new Waitlists();
+        history = UndoHistory.load(UndoHistory.HISTORY_FILE, UNDO_LIMIT);
+        this.journal = journal;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            bookLocks[i] = new ReentrantLock();
+        }
+
+        binarySnapshot = BinaryCatalog.exists(BinaryCatalog.BINARY_FILE);
+        if (offHeap && !binarySnapshot && journal.isEmpty()
+                && (offHeapCatalog = OffHeapCatalog.load(FileIO.BOOK_FILE)) != null) {
+            lastBookID = Math.max(lastBookID, offHeapCatalog.getMaxID());
+        } else if (columnar && !binarySnapshot && journal.isEmpty()
+                && (columnarCatalog = ColumnarCatalog.load(FileIO.BOOK_FILE)) != null) {
+            lastBookID = Math.max(lastBookID, columnarCatalog.getMaxID());
+        } else if (lazy && !binarySnapshot && journal.isEmpty()) {
+            lazyCatalog = new LazyCatalog(FileIO.BOOK_FILE);
+            lastBookID = Math.max(lastBookID, lazyCatalog.getMaxID());
+        } else {
+            loadCatalog();
+        }
+    }
+
+    /**
+     * Loads the snapshot and the journal into the in-memory structures.
+     * The text snapshot is parsed and indexed on all cores, and the
+     * search indexes are built at the same time.
+     * Time Complexity: O(n log n), divided over the available cores
+     */
+    private void loadCatalog() {
+        // 1. Load existing books from the file
+        // A binary snapshot (created with the BinaryCatalog converter) is preferred
+        if (binarySnapshot) {
+            BinaryCatalog.load(BinaryCatalog.BINARY_FILE, catalog, bookTree);
+
+            // 2. Build the ID index and update the ID counter to prevent duplicates
+            updateLastID();
+        } else {
+            // 2. The parallel loader fills the ID index and finds the highest ID itself
+            int maxID = ParallelLoader.load(FileIO.BOOK_FILE, catalog, bookTree, bookIndex);
+            lastBookID = Math.max(lastBookID, maxID);
+        }
+
+        // 3. Re-apply changes made after the snapshot, then fold them into it
+        if (journal.replay(catalog, bookTree, bookIndex) > 0) {
+            updateLastID();
+            compact();
+        }
+
+        // 4. Index the titles and authors for partial and multi-field search,
+        // and mark which books are available; the three indexes are independent
+        ForkJoinTask<?> titles = ForkJoinPool.commonPool().submit(() -> titleSearch.rebuild(catalog));
+        ForkJoinTask<?> authors = ForkJoinPool.commonPool().submit(() -> authorIndex.rebuild(catalog));
+        availability.rebuild(catalog);
+        titles.join();
+        authors.join();
+    }
+
+    /**
+     * Switches from the lazy offset index, the off-heap store or the
+     * columnar store to the full in-memory catalog.
+     * Called by every operation that needs more than a single lookup.
+     * Time Complexity: O(n log n) the first time, O(1) afterwards
+     */
+    private void ensureLoaded() {
+        if (lazyCatalog == null && offHeapCatalog == null && columnarCatalog == null) return;
+
+        catalogLock.writeLock().lock();
+        try {
+            if (lazyCatalog != null) { // Another thread may have loaded it meanwhile
+                loadCatalog();
+                lazyCatalog = null;
+            }
+            OffHeapCatalog offHeap = offHeapCatalog;
+            if (offHeap != null) {
+                // Status changes made off-heap are in the journal, which the load replays
+                offHeapCatalog = null;
+                journal.flush();
+                loadCatalog();
+                offHeap.free();
+            }
+            if (columnarCatalog != null) {
+                // Like off-heap mode, status changes are replayed from the journal
+                columnarCatalog = null;
+                journal.flush();
+                loadCatalog();
+            }
+            clearCaches(); // Cached books were copies from the old store
+        } finally {
+            catalogLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the lock stripe that guards the status of the given book.
+     * Time Complexity: O(1)
+     */
+    private ReentrantLock lockFor(int bookID) {
+        int h = bookID * 0x9E3779B9;
+        return bookLocks[(h ^ (h >>> 16)) & (LOCK_STRIPES - 1)];
+    }
+
+    /**
+     * Writes a full snapshot of the catalog and empties the journal.
+     * If the snapshot cannot be written, the journal and the history file
+     * are left alone, so the changes they hold are still replayed on the
+     * next start; compaction is simply tried again later.
+     * Callers must hold the catalog write lock, so no change can slip in
+     * between the snapshot and the truncation.
+     * Time Complexity: O(n)
+     * @return true if the snapshot was written
+     */
+    private boolean compact() {
+        boolean saved;
+        OffHeapCatalog offHeap = offHeapCatalog;
+        ColumnarCatalog columns = columnarCatalog;
+        if (offHeap != null) {
+            saved = offHeap.save(FileIO.BOOK_FILE);
+        } else if (columns != null) {
+            saved = columns.save(FileIO.BOOK_FILE);
+        } else if (binarySnapshot) {
+            saved = BinaryCatalog.write(BinaryCatalog.BINARY_FILE, catalog);
+        } else {
+            saved = FileIO.saveBooks(catalog);
+        }
+        if (!saved) {
+            out().println("Snapshot failed; the journal is kept.");
+            return false;
+        }
+        journal.truncate();
+        history.save(UndoHistory.HISTORY_FILE);
+        return true;
+    }
+
+    /**
+     * Compacts the journal once enough entries have accumulated.
+     * The O(n) snapshot cost is paid once per threshold entries,
+     * not on every change. Must be called without holding any lock.
+     * Time Complexity: O(1) amortized
+     */
+    private void compactIfNeeded() {
+        if (!journal.needsCompaction()) return;
+
+        catalogLock.writeLock().lock();
+        try {
+            if (journal.needsCompaction()) {
+                compact();
+            }
+        } finally {
+            catalogLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Writes a final snapshot and releases the journal file.
+     * Should be called once when the program exits.
+     * Time Complexity: O(n)
+     */
+    public void close() {
+        catalogLock.writeLock().lock();
+        try {
+            if (lazyCatalog == null) { // If nothing was loaded, nothing can have changed
+                compact();
+            }
+            journal.close();
+            history.close();
+        } finally {
+            catalogLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Sends all messages produced by the calling thread to the given stream.
+     * Used by LibraryServer so each connection receives its own results.
+     * Time Complexity: O(1)
+     */
+    public void setOutput(PrintStream stream) {
+        output.set(stream);
+    }
+
+    /**
+     * Returns the message stream of the calling thread.
+     */
+    private PrintStream out() {
+        return output.get();
+    }
+
+    /**
+     * Returns the number of books in the catalog.
+     * Time Complexity: O(1)
+     */
+    public int size() {
+        OffHeapCatalog offHeap = offHeapCatalog;
+        if (offHeap != null) return offHeap.size();
+        ColumnarCatalog columns = columnarCatalog;
+        if (columns != null) return columns.count();
+        LazyCatalog lazy = lazyCatalog;
+        return (lazy != null) ? lazy.size() : bookIndex.size();
+    }
+
+    /**
+     * Returns the direct memory used by the off-heap store (0 if none).
+     * Time Complexity: O(1)
+     */
+    public long offHeapBytes() {
+        OffHeapCatalog offHeap = offHeapCatalog;
+        return (offHeap != null) ? offHeap.memoryBytes() : 0;
+    }
+
+    /**
+     * Puts a bounded cache in front of searchByID and searchByTitle, one
+     * for each, replacing any earlier caches. Should be called before the
+     * library is shared between threads.
+     * Time Complexity: O(c)
+     * @param policy Eviction policy
+     * @param capacity Maximum number of books each cache holds
+     */
+    public void enableLookupCache(LookupCache.Policy policy, int capacity) {
+        idCache = new LookupCache<>(policy, capacity);
+        titleCache = new LookupCache<>(policy, capacity);
+    }
+
+    /**
+     * Returns the hit/miss/eviction counters of the lookup caches.
+     * Time Complexity: O(1)
+     */
+    public String cacheStats() {
+        LookupCache<Integer, Book> ids = idCache;
+        LookupCache<String, Book> titles = titleCache;
+        if (ids == null || titles == null) return "disabled";
+        return "ID [" + ids.stats() + "] title [" + titles.stats() + "]";
+    }
+
+    /**
+     * Drops a book from the lookup caches. Called whenever a book is
+     * added, removed or changes status.
+     * Time Complexity: O(k) for a title of k characters
+     */
+    private void invalidateCached(Book b) {
+        LookupCache<Integer, Book> ids = idCache;
+        if (ids != null) {
+            ids.invalidate(b.getBookID());
+        }
+        LookupCache<String, Book> titles = titleCache;
+        if (titles != null) {
+            titles.invalidate(titleKey(b.getTitle()));
+        }
+    }
+
+    /**
+     * Empties the lookup caches.
+     * Time Complexity: O(c)
+     */
+    private void clearCaches() {
+        LookupCache<Integer, Book> ids = idCache;
+        if (ids != null) {
+            ids.clear();
+        }
+        LookupCache<String, Book> titles = titleCache;
+        if (titles != null) {
+            titles.clear();
+        }
+    }
+
+    /**
+     * Key of a title in the title cache: titles are compared ignoring
+     * case, so each character is folded the way compareToIgnoreCase does.
+     * Time Complexity: O(k)
+     */
+    private static String titleKey(String title) {
+        char[] chars = title.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Returns the journal's batching counters (batch size, flush latency).
+     * Time Complexity: O(1)
+     */
+    public String persistenceStats() {
+        return journal.stats();
+    }
+
+    /**
+     * Updates the lastBookID based on the highest ID currently in the catalog.
+     * Prevents duplicate IDs when restarting the program.
+     * The same pass fills the ID index so it matches the loaded catalog.
+     * Time Complexity: O(n)
+     */
+    private void updateLastID() {
+        for (int i = 0; i < catalog.size(); i++) {
+            Book b = catalog.get(i);
+            if (b == null) continue; // Removed
+            bookIndex.put(b.getBookID(), b);
+            if (b.getBookID() > lastBookID) {
+                lastBookID = b.getBookID();
+            }
+        }
+    }
+
+    /**
+     * Adds a new book to the system (Array + BST + ID index) and logs it to the journal.
+     * Time Complexity: O(n) due to array resize possibility
+     */
+    public void addBook(String title, String author) {
+        ensureLoaded();
+        title = cleanField(title);
+        author = cleanField(author);
+        Book newBook;
+
+        catalogLock.writeLock().lock();
+        try {
+            lastBookID++; // Increment ID
+            // RULE: New books are always initialized as "Available"
+            newBook = new Book(lastBookID, title, StringPool.AUTHORS.intern(author), "Available");
+            insertBook(newBook);
+
+            // Record the action for Undo
+            history.record(UndoHistory.ADD, newBook);
+        } finally {
+            catalogLock.writeLock().unlock();
+        }
+        compactIfNeeded();
+
+        out().println("Book added successfully: " + title + " (ID: " + newBook.getBookID() + ")");
+    }
+
+    /**
+     * Makes a title or author safe to store in the ';'-separated journal and
+     * snapshot lines: ';' becomes ',' (as in BulkImporter) and line breaks
+     * become spaces, so one book can never spill into extra fields or lines.
+     * Time Complexity: O(k) where k is the length of the text
+     */
+    static String cleanField(String text) {
+        return text.replace(';', ',').replace('\r', ' ').replace('\n', ' ').trim();
+    }
+
+    /**
+     * Removes a book from the catalog by ID and logs it to the journal.
+     * The ID index finds the book in O(1), and the catalog array leaves a
+     * tombstone in the slot the book tracks (Book.slot), so nothing is
+     * searched or shifted; the title tree removal dominates.
+     * Time Complexity: O(log n) amortized (see deleteBook)
+     */
+    public void removeBook(int id) {
+        ensureLoaded();
+
+        catalogLock.writeLock().lock();
+        try {
+            Book b = deleteBook(id);
+            if (b == null) {
+                out().println("Book not found with ID: " + id);
+                return;
+            }
+
+            // Record the action (with the book's data, so it can be restored)
+            history.record(UndoHistory.REMOVE, b);
+        } finally {
+            catalogLock.writeLock().unlock();
+        }
+        compactIfNeeded();
+
+        out().println("Book removed successfully.");
+    }
+
+    /**
+     * Imports a large file of new books in one go (see BulkImporter for
+     * the formats). Unlike addBook, nothing is written per book:
+     * - the file is parsed in parallel, before the catalog is locked,
+     * - IDs are handed out as one block after lastBookID,
+     * - the title tree is rebuilt bottom-up from the sorted titles,
+     * - a single snapshot is written at the end instead of journal entries.
+     * Imported books are not added to the undo history.
+     * Time Complexity: O(n + m log m) for n existing and m imported books
+     */
+    public void importBooks(String fileName) {
+        ensureLoaded();
+        long startTime = System.nanoTime();
+
+        BulkImporter importer = new BulkImporter(fileName);
+        try {
+            importer.parse();
+        } catch (IOException e) {
+            out().println("Error importing books: " + e.getMessage());
+            return;
+        }
+
+        Book[] books;
+        catalogLock.writeLock().lock();
+        try {
+            books = importer.toBooks(lastBookID + 1);
+            lastBookID += books.length;
+
+            catalog.addAll(books);
+            for (Book b : books) {
+                bookIndex.put(b.getBookID(), b);
+                titleSearch.add(b);  // New IDs are the highest, so the ID lists stay sorted
+                authorIndex.add(b);
+                availability.set(b.getBookID(), b.isAvailable());
+            }
+
+            Book[] byTitle = books.clone();
+            java.util.Arrays.parallelSort(byTitle, BST.ORDER);
+            bookTree.insertAllSorted(byTitle);
+
+            // Persist once: the snapshot now includes every imported book.
+            // Without a snapshot they would be lost, so journal them instead.
+            if (!compact()) {
+                for (Book b : books) {
+                    journal.logAdd(b);
+                }
+            }
+            clearCaches();
+        } finally {
+            catalogLock.writeLock().unlock();
+        }
+
+        long elapsed = Math.max(1, System.nanoTime() - startTime);
+        out().println("Imported " + books.length + " books (" + importer.getSkipped() + " lines skipped) in "
+                + (elapsed / 1_000_000) + " ms, " + (long) (books.length * 1e9 / elapsed) + " rows/s");
+    }
+
+    /**
+     * Puts a book into every structure and logs it to the journal.
+     * Shared by addBook and by undo/redo. Caller must hold the write lock.
+     * Time Complexity: O(n) due to array resize possibility
+     */
+    private void insertBook(Book book) {
+        catalog.add(book);       // Add to Dynamic Array
+        bookTree.insert(book);   // Insert into BST
+        bookIndex.put(book.getBookID(), book); // Register in the ID index
+        titleSearch.add(book);   // Make it findable by partial title
+        authorIndex.add(book);   // ...and by author
+        availability.set(book.getBookID(), book.isAvailable());
+        invalidateCached(book);
+
+        // Record the change in the journal
+        journal.logAdd(book);
+    }
+
+    /**
+     * Takes a book out of every structure and logs the removal.
+     * Shared by removeBook and by undo/redo. Caller must hold the write lock.
+     * The catalog array only leaves a tombstone, so this no longer has to
+     * search for the book or shift the array.
+     * Time Complexity: O(log n) amortized
+     * @return The removed book, or null if no book has this ID
+     */
+    private Book deleteBook(int id) {
+        Book b = bookIndex.remove(id);
+        if (b == null) {
+            return null;
+        }
+
+        catalog.remove(b);
+        unindex(b);
+        rebuildIndexesIfNeeded();
+        return b;
+    }
+
+    /**
+     * Removes every book matching the filter in one pass, e.g. all
+     * withdrawn titles during a weeding pass. The catalog array is
+     * compacted once at the end, and the search indexes are rebuilt at
+     * most once.
+     * Removed books are not added to the undo history.
+     * Time Complexity: O(n + r log n) for r removed books
+     * @return Number of removed books
+     */
+    public int removeBooks(java.util.function.Predicate<Book> filter) {
+        ensureLoaded();
+        int count;
+
+        catalogLock.writeLock().lock();
+        try {
+            count = catalog.removeAll(filter, b -> {
+                bookIndex.remove(b.getBookID());
+                unindex(b);
+            });
+            rebuildIndexesIfNeeded();
+        } finally {
+            catalogLock.writeLock().unlock();
+        }
+        compactIfNeeded();
+        return count;
+    }
+
+    /**
+     * Removes all books by the given author (case-insensitive).
+     * Time Complexity: O(n + r log n) for r removed books
+     */
+    public void removeBooksByAuthor(String author) {
+        String name = author.trim();
+        int count = removeBooks(b -> b.getAuthor().equalsIgnoreCase(name));
+        out().println("Removed " + count + " book(s) by " + name + ".");
+    }
+
+    /**
+     * Removes a book from the title tree, the search indexes and the
+     * availability bitmap, and logs the removal in the journal.
+     * Caller must hold the write lock.
+     * Time Complexity: O(log n)
+     */
+    private void unindex(Book b) {
+        bookTree.remove(b); // Drop it from the title index as well
+        titleSearch.remove(b);
+        authorIndex.remove(b);
+        availability.set(b.getBookID(), false);
+        invalidateCached(b);
+
+        // Record the removal in the journal
+        journal.logRemove(b.getBookID());
+    }
+
+    /**
+     * Rebuilds the title and author indexes once removed books make up
+     * too much of them. Caller must hold the write lock.
+     * Time Complexity: O(1), O(n log n) when a rebuild is due
+     */
+    private void rebuildIndexesIfNeeded() {
+        if (titleSearch.needsRebuild()) {
+            titleSearch.rebuild(catalog);
+        }
+        if (authorIndex.needsRebuild()) {
+            authorIndex.rebuild(catalog);
+        }
+    }
+
+    /**
+     * Searches for a book by ID using the hash index.
+     * A hit in the lookup cache (if enabled) skips the catalog lock.
+     * Time Complexity: O(1) average
+     */
+    public void searchByID(int id) {
+        LookupCache<Integer, Book> cache = idCache;
+        Book b = (cache != null) ? cache.get(id) : null;
+        if (b == null) {
+            catalogLock.readLock().lock();
+            try {
+                long stamp = (cache != null) ? cache.stamp() : 0;
+                b = findByID(id);
+                if (b != null && cache != null) {
+                    cache.put(id, b, stamp);
+                }
+            } finally {
+                catalogLock.readLock().unlock();
+            }
+        }
+
+        if (b != null) {
+            out().println("Found: " + b);
+        } else {
+            out().println("Book not found.");
+        }
+    }
+
+    /**
+     * Finds a book by ID in whichever store is active.
+     * In off-heap and columnar mode the result is a copy; change its
+     * status with changeStatus.
+     * Caller must hold the catalog lock.
+     * Time Complexity: O(1) average
+     */
+    private Book findByID(int id) {
+        OffHeapCatalog offHeap = offHeapCatalog;
+        if (offHeap != null) return offHeap.findByID(id);
+        ColumnarCatalog columns = columnarCatalog;
+        if (columns != null) return columns.findByID(id);
+        LazyCatalog lazy = lazyCatalog;
+        return (lazy != null) ? lazy.findByID(id) : bookIndex.get(id);
+    }
+
+    /**
+     * Loads the full catalog unless the off-heap or columnar store is
+     * active, which can change statuses in place.
+     * Time Complexity: O(1), or as ensureLoaded
+     */
+    private void ensureStatusesWritable() {
+        if (offHeapCatalog == null && columnarCatalog == null) {
+            ensureLoaded();
+        }
+    }
+
+    /**
+     * Searches for a book by Title using BST.
+     * A hit in the lookup cache (if enabled) skips the tree walk.
+     * In columnar mode the title hash column is scanned instead.
+     * Time Complexity: O(log n) (O(n) in columnar mode), O(k) on a cache hit
+     * for a title of k characters
+     */
+    public void searchByTitle(String title) {
+        LookupCache<String, Book> cache = titleCache;
+        String key = (cache != null) ? titleKey(title) : null;
+        Book b = (cache != null) ? cache.get(key) : null;
+        if (b == null) {
+            catalogLock.readLock().lock();
+            try {
+                long stamp = (cache != null) ? cache.stamp() : 0;
+                OffHeapCatalog offHeap = offHeapCatalog;
+                ColumnarCatalog columns = columnarCatalog;
+                LazyCatalog lazy = lazyCatalog;
+                b = (offHeap != null) ? offHeap.findByTitle(title)
+                        : (columns != null) ? columns.findByTitle(title)
+                        : (lazy != null) ? lazy.findByTitle(title) : bookTree.search(title);
+                if (b != null && cache != null) {
+                    cache.put(key, b, stamp);
+                }
+            } finally {
+                catalogLock.readLock().unlock();
+            }
+        }
+
+        if (b != null) {
+            out().println("Found in BST: " + b);
+        } else {
+            out().println("Book not found in BST.");
+        }
+    }
+
+    /**
+     * Lists books whose title starts with the given text (autocomplete).
+     * Time Complexity: O(q + c) for a query of length q and c candidates checked
+     */
+    public void searchTitlePrefix(String prefix) {
+        ensureLoaded();
+        DynamicArray results;
+        catalogLock.readLock().lock();
+        try {
+            results = titleSearch.prefix(prefix, SEARCH_LIMIT);
+        } finally {
+            catalogLock.readLock().unlock();
+        }
+        printResults(results);
+    }
+
+    /**
+     * Lists books whose title contains the given text.
+     * Time Complexity: O(q + c) for a query of length q and c candidates checked
+     */
+    public void searchTitleContains(String text) {
+        ensureLoaded();
+        DynamicArray results;
+        catalogLock.readLock().lock();
+        try {
+            results = titleSearch.contains(text, SEARCH_LIMIT);
+        } finally {
+            catalogLock.readLock().unlock();
+        }
+        printResults(results);
+    }
+
+    /**
+     * Lists the books whose titles lie alphabetically between from and to
+     * (both inclusive, case-insensitive), e.g. one shelf section.
+     * Time Complexity: O(log n + r) for r listed books
+     */
+    public void searchTitleRange(String from, String to) {
+        ensureLoaded();
+        DynamicArray results;
+        int total;
+        catalogLock.readLock().lock();
+        try {
+            results = bookTree.range(from, to, SEARCH_LIMIT);
+            total = bookTree.rangeCount(from, to);
+        } finally {
+            catalogLock.readLock().unlock();
+        }
+        out().println(total + " title(s) between \"" + from + "\" and \"" + to + "\"");
+        if (total > 0) {
+            printResults(results);
+        }
+    }
+
+    /**
+     * Finds books matching several filters at once,
+     * e.g. all available books by a given author.
+     * The results are capped at SEARCH_LIMIT on a copy of the query, so
+     * the caller's query is left unchanged.
+     * Time Complexity: O(s log l + r), see QueryEngine
+     */
+    public void findBooks(BookQuery query) {
+        ensureLoaded();
+        DynamicArray results;
+        catalogLock.readLock().lock();
+        try {
+            results = queryEngine.execute(query.copy().limit(SEARCH_LIMIT));
+        } finally {
+            catalogLock.readLock().unlock();
+        }
+        out().println("Query: " + query);
+        printResults(results);
+    }
+
+    /**
+     * Prints a list of search results.
+     * Time Complexity: O(r) for r results
+     */
+    private void printResults(DynamicArray results) {
+        if (results.size() == 0) {
+            out().println("No matching books.");
+            return;
+        }
+        for (int i = 0; i < results.size(); i++) {
+            out().println(results.get(i));
+        }
+        if (results.size() == SEARCH_LIMIT) {
+            out().println("(showing the first " + SEARCH_LIMIT + " matches)");
+        }
+    }
+
+    /**
+     * Lists all books using Dynamic Array (Order of addition).
+     * Time Complexity: O(n)
+     */
+    public void listAllBooks() {
+        out().println("\n--- All Books (Catalog Order) ---");
+        listCatalogPage(0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Lists all books alphabetically using BST In-Order Traversal.
+     * Time Complexity: O(n)
+     */
+    public void listAllBooksAlphabetical() {
+        out().println("\n--- All Books (Alphabetical Order) ---");
+        listAlphabeticalPage(null, 0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Prints one page of books in catalog order (order of addition).
+     * The cursor is the ID of the last book shown rather than a position,
+     * so it stays valid when the catalog is compacted between two pages.
+     * The page is written through a single buffered writer and flushed once.
+     * Time Complexity: O(p) for a page of p books
+     * @param afterID ID of the last book on the previous page (0 for the first page)
+     * @param pageSize Maximum number of books on the page
+     * @return ID of the last book on this page, or -1 if this was the last page
+     */
+    public int listCatalogPage(int afterID, int pageSize) {
+        ensureLoaded();
+        catalogLock.readLock().lock();
+        try {
+            PrintWriter writer = bufferedOut();
+            if (catalog.count() == 0) writer.println("Library is empty.");
+
+            // Removed books leave empty slots, which are skipped
+            int i = resumePosition(afterID);
+            int lastID = -1;
+            for (int shown = 0; i < catalog.size() && shown < pageSize; i++) {
+                Book b = catalog.get(i);
+                if (b != null) {
+                    writer.println(b);
+                    lastID = b.getBookID();
+                    shown++;
+                }
+            }
+            writer.flush();
+            return i < catalog.size() ? lastID : -1;
+        } finally {
+            catalogLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the catalog position just after the book with the given ID,
+     * using the slot the catalog tracks for it. If that book has been
+     * removed since, the page continues at the first book with a higher
+     * ID (new books are appended, so IDs ascend in catalog order).
+     * Caller must hold the catalog lock.
+     * Time Complexity: O(1), O(n) if the book was removed
+     */
+    private int resumePosition(int afterID) {
+        if (afterID <= 0) return 0;
+        Book b = bookIndex.get(afterID);
+        int position = (b != null) ? catalog.indexOf(b) : -1;
+        if (position >= 0) return position + 1;
+
+        for (int i = 0; i < catalog.size(); i++) {
+            Book next = catalog.get(i);
+            if (next != null && next.getBookID() > afterID) return i;
+        }
+        return catalog.size();
+    }
+
+    /**
+     * Prints one page of books in alphabetical order.
+     * The cursor is the title and ID of the last book shown, so a page
+     * break in the middle of several books with the same title loses none
+     * of them. The BST iterator seeks straight to it, so a page costs the
+     * same at the end of the catalog as at the start.
+     * Time Complexity: O(p + log n) for a page of p books
+     * @param afterTitle Title of the last book on the previous page, or null for the first page
+     * @param afterID ID of the last book on the previous page
+     * @param pageSize Maximum number of books on the page
+     * @return Last book on this page (to resume after), or null if this was the last page
+     */
+    public Book listAlphabeticalPage(String afterTitle, int afterID, int pageSize) {
+        ensureLoaded();
+        catalogLock.readLock().lock();
+        try {
+            PrintWriter writer = bufferedOut();
+            java.util.Iterator<Book> books = bookTree.iterator(afterTitle, afterID);
+            if (afterTitle == null && !books.hasNext()) writer.println("Tree is empty.");
+
+            Book last = null;
+            for (int shown = 0; shown < pageSize && books.hasNext(); shown++) {
+                last = books.next();
+                writer.println(last);
+            }
+            writer.flush();
+            return books.hasNext() ? last : null;
+        } finally {
+            catalogLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Wraps the current output in a buffered writer, so a long listing is
+     * written in large blocks instead of one println per book.
+     * It encodes UTF-8, like the server connections and the data files,
+     * whatever the platform's default charset is.
+     * The caller flushes it (closing it would close the output).
+     * Time Complexity: O(1)
+     */
+    private PrintWriter bufferedOut() {
+        return new PrintWriter(new BufferedWriter(new OutputStreamWriter(out(), StandardCharsets.UTF_8), 1 << 16));
+    }
+
+    /**
+     * Adds a borrow request to the queue and saves user to file.
+     * Enqueueing is lock-free, so many terminals can add requests at once.
+     * Time Complexity: O(1)
+     */
+    public void requestBook(String userName, int bookID) {
+        // Enqueue the request
+        borrowRequests.enqueue(userName, bookID);
+
+        // Log the user request to the database/file
+        FileIO.appendUser(userName + ";Requested Book ID: " + bookID);
+
+        out().println("Request added to waiting list for user: " + userName);
+    }
+
+    /**
+     * Moves all requests from the incoming queue into the per-book waiting lists.
+     * Only one thread drains at a time, as the queue requires.
+     * Time Complexity: O(k) for k new requests
+     */
+    private void drainRequests() {
+        synchronized (requestConsumer) {
+            Queue.Request req;
+            while ((req = borrowRequests.dequeue()) != null) {
+                waitlists.add(req);
+            }
+        }
+    }
+
+    /**
+     * Processes all waiting borrow requests in one pass.
+     * Every book that is available and has someone waiting is lent to the
+     * first user in its waiting list. Requests for books that no longer
+     * exist are dropped; requests for borrowed books keep waiting.
+     * Time Complexity: O(k + b) for k new requests and b books with waiting lists
+     */
+    public void processQueue() {
+        ensureLoaded();
+        drainRequests();
+
+        int[] bookIDs = waitlists.bookIDs();
+        if (bookIDs.length == 0) {
+            out().println("No waiting requests.");
+            return;
+        }
+
+        int fulfilled = 0;
+        for (int id : bookIDs) {
+            catalogLock.readLock().lock();
+            ReentrantLock lock = lockFor(id);
+            lock.lock();
+            try {
+                Book b = bookIndex.get(id);
+                if (b == null) {
+                    // The book was removed; nobody can get it any more
+                    Queue.Request req;
+                    while ((req = waitlists.poll(id)) != null) {
+                        out().println("Request dropped, book not found: " + req);
+                    }
+                } else if (b.isAvailable()) {
+                    Queue.Request req = waitlists.poll(id);
+                    if (req != null) {
+                        lendTo(b, req);
+                        fulfilled++;
+                    }
+                }
+            } finally {
+                lock.unlock();
+                catalogLock.readLock().unlock();
+            }
+        }
+        compactIfNeeded();
+
+        out().println("Requests fulfilled: " + fulfilled + ", still waiting: " + waitlists.size());
+    }
+
+    /**
+     * Lends an available book to the user of a waiting request.
+     * Caller must hold the book's lock stripe.
+     * Time Complexity: O(1)
+     */
+    private void lendTo(Book b, Queue.Request req) {
+        changeStatus(b, Book.Status.BORROWED);
+        history.record(UndoHistory.BORROW, b.getBookID());
+        out().println("Processing request: " + req + " -> borrowed: " + b.getTitle());
+    }
+
+    /**
+     * Sets a book's status, keeps the availability bitmap in step and
+     * records the change in the journal.
+     * Caller must hold the book's lock stripe.
+     * Time Complexity: O(1)
+     */
+    private void changeStatus(Book b, Book.Status status) {
+        b.setStatus(status);
+        OffHeapCatalog offHeap = offHeapCatalog;
+        ColumnarCatalog columns = columnarCatalog;
+        if (offHeap != null) {
+            offHeap.setStatus(b.getBookID(), status); // b is only a copy of the record
+        } else if (columns != null) {
+            columns.setStatusByID(b.getBookID(), status); // Likewise a copy of the row
+        } else {
+            availability.set(b.getBookID(), status == Book.Status.AVAILABLE);
+        }
+        invalidateCached(b);
+        journal.logStatus(b.getBookID(), status.label());
+    }
+
+    /**
+     * Prints how many books are available and lists the first of them.
+     * The count comes from the bitmap, and the listing skips over borrowed
+     * books 64 at a time. In columnar mode both come from a scan of the
+     * status column.
+     * Time Complexity: O(1) for the count, O(r + w) to list r books over w bitmap words
+     */
+    public void listAvailableBooks() {
+        if (columnarCatalog == null) {
+            ensureLoaded();
+        }
+        catalogLock.readLock().lock();
+        try {
+            ColumnarCatalog columns = columnarCatalog;
+            if (columns != null) {
+                listAvailableRows(columns);
+                return;
+            }
+
+            out().println("Available books: " + availability.count() + " of " + bookIndex.size());
+
+            int shown = 0;
+            for (int id = availability.next(0); id >= 0 && shown < SEARCH_LIMIT; id = availability.next(id + 1)) {
+                Book b = bookIndex.get(id);
+                if (b != null) {
+                    out().println(b);
+                    shown++;
+                }
+            }
+            if (shown == SEARCH_LIMIT && availability.count() > SEARCH_LIMIT) {
+                out().println("(showing the first " + SEARCH_LIMIT + ")");
+            }
+        } finally {
+            catalogLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * listAvailableBooks for the columnar store.
+     * Caller must hold the catalog lock.
+     * Time Complexity: O(n)
+     */
+    private void listAvailableRows(ColumnarCatalog columns) {
+        int available = columns.count(Book.Status.AVAILABLE);
+        out().println("Available books: " + available + " of " + columns.count());
+
+        IntList rows = columns.rowsWith(Book.Status.AVAILABLE, SEARCH_LIMIT);
+        for (int i = 0; i < rows.size(); i++) {
+            out().println(columns.toBook(rows.get(i)));
+        }
+        if (rows.size() == SEARCH_LIMIT && available > SEARCH_LIMIT) {
+            out().println("(showing the first " + SEARCH_LIMIT + ")");
+        }
+    }
+
+    /**
+     * Borrows a book (Changes status to Borrowed).
+     * The check and the status change happen under the book's lock stripe,
+     * so two terminals can never both borrow the same copy.
+     * Time Complexity: O(1)
+     */
+    public void borrowBook(int id) {
+        ensureStatusesWritable();
+        boolean borrowed;
+        Book b;
+
+        catalogLock.readLock().lock();
+        ReentrantLock lock = lockFor(id);
+        lock.lock();
+        try {
+            b = findByID(id);
+            if (b == null) {
+                out().println("Book not found.");
+                return;
+            }
+
+            borrowed = b.isAvailable();
+            if (borrowed) {
+                // Update the status and record the change in the journal
+                changeStatus(b, Book.Status.BORROWED);
+
+                // Record the action for Undo
+                history.record(UndoHistory.BORROW, id);
+            }
+        } finally {
+            lock.unlock();
+            catalogLock.readLock().unlock();
+        }
+
+        if (borrowed) {
+            compactIfNeeded();
+            out().println("You borrowed: " + b.getTitle());
+        } else {
+            out().println("Book is already borrowed.");
+        }
+    }
+
+    /**
+     * Returns a book (Changes status to Available).
+     * If users are waiting for this book, it is lent to the first of them
+     * straight away, before any other terminal can take it.
+     * Time Complexity: O(1) amortized
+     */
+    public void returnBook(int id) {
+        ensureStatusesWritable();
+        Book b;
+
+        catalogLock.readLock().lock();
+        ReentrantLock lock = lockFor(id);
+        lock.lock();
+        try {
+            b = findByID(id);
+            if (b == null) {
+                out().println("Book not found.");
+                return;
+            }
+
+            // Update the status and record the change in the journal
+            changeStatus(b, Book.Status.AVAILABLE);
+
+            // Record the action for Undo
+            history.record(UndoHistory.RETURN, id);
+            out().println("Book returned: " + b.getTitle());
+
+            // Hand the book to the next user waiting for it, if any
+            drainRequests();
+            Queue.Request next = waitlists.poll(id);
+            if (next != null) {
+                lendTo(b, next);
+            }
+        } finally {
+            lock.unlock();
+            catalogLock.readLock().unlock();
+        }
+        compactIfNeeded();
+    }
+
+    /**
+     * Undoes the most recent action (add, remove, borrow or return).
+     * Can be repeated to step further back, up to UNDO_LIMIT actions.
+     * Time Complexity: O(1) for borrow/return, O(n) for add/remove
+     */
+    public void undo() {
+        ensureLoaded();
+        UndoHistory.Action action = history.undo();
+
+        if (action == null) {
+            out().println("Nothing to undo.");
+            return;
+        }
+        // REVERSE LOGIC: ADD <-> REMOVE, BORROW <-> RETURN
+        if (apply(action, true)) {
+            out().println("Undo successful: " + action);
+        }
+    }
+
+    /**
+     * Applies the most recently undone action again.
+     * Time Complexity: O(1) for borrow/return, O(n) for add/remove
+     */
+    public void redo() {
+        ensureLoaded();
+        UndoHistory.Action action = history.redo();
+
+        if (action == null) {
+            out().println("Nothing to redo.");
+            return;
+        }
+        if (apply(action, false)) {
+            out().println("Redo successful: " + action);
+        }
+    }
+
+    /**
+     * Performs an action from the history, or its opposite.
+     * The changes go through the journal like any other change, but are
+     * not recorded in the history again.
+     * Time Complexity: O(1) for borrow/return, O(n) for add/remove
+     * @param reverse true to undo the action, false to redo it
+     * @return true if the change was made
+     */
+    private boolean apply(UndoHistory.Action action, boolean reverse) {
+        boolean applied;
+        boolean exists; // Whether the book exists when the change is skipped
+        if (action.type == UndoHistory.ADD || action.type == UndoHistory.REMOVE) {
+            // Undoing an ADD or redoing a REMOVE takes the book out again
+            boolean remove = (action.type == UndoHistory.ADD) == reverse;
+
+            catalogLock.writeLock().lock();
+            try {
+                if (remove) {
+                    applied = deleteBook(action.bookID) != null;
+                    exists = false;
+                } else {
+                    exists = bookIndex.containsKey(action.bookID);
+                    applied = !exists;
+                    if (applied) {
+                        Book.Status status = (action.type == UndoHistory.ADD)
+                                ? Book.Status.AVAILABLE : action.status;
+                        insertBook(new Book(action.bookID, action.title, action.author, status));
+                    }
+                }
+            } finally {
+                catalogLock.writeLock().unlock();
+            }
+        } else {
+            // Undoing a BORROW or redoing a RETURN makes the book available
+            Book.Status newStatus = (action.type == UndoHistory.BORROW) == reverse
+                    ? Book.Status.AVAILABLE : Book.Status.BORROWED;
+
+            catalogLock.readLock().lock();
+            ReentrantLock lock = lockFor(action.bookID);
+            lock.lock();
+            try {
+                Book b = bookIndex.get(action.bookID);
+                applied = (b != null);
+                exists = false;
+                if (applied) {
+                    // Update the status and record the change in the journal
+                    changeStatus(b, newStatus);
+                }
+            } finally {
+                lock.unlock();
+                catalogLock.readLock().unlock();
+            }
+        }
+        compactIfNeeded();
+
+        if (!applied) {
+            out().println((reverse ? "Undo" : "Redo") + " skipped. Book ID " + action.bookID
+                    + (exists ? " already exists." : " no longer exists."));
+        }
+        return applied;
+    }
+}
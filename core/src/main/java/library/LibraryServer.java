@@ -0,0 +1,260 @@
+package library;
+
+import java.io.*;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * LibraryServer Class
+ * Serves one shared Library to many branch terminals over TCP.
+ * Uses only the JDK: a ServerSocket plus one task per connection.
+ *
+ * Protocol: the client sends one command per line and the server answers
+ * with the messages the Library produced, followed by a line holding a
+ * single "." to mark the end of the response.
+ *
+ *   ADD Title;Author        REMOVE id         SEARCH_ID id
+ *   SEARCH_TITLE Title      BORROW id         RETURN id
+ *   REQUEST User;id         PROCESS           UNDO              REDO
+ *   LIST                    LIST_ALPHA        PREFIX text
+ *   CONTAINS text           FIND Author;TitlePrefix;Status (blank fields match any)
+ *   AVAILABLE               RANGE FromTitle;ToTitle
+ *   STATS (lookup cache and journal counters, one "name: counters" line each)
+ *   QUIT
+ *
+ * LIST and LIST_ALPHA send the whole catalog. With a page size they send
+ * one page followed by "NEXT cursor"; pass the cursor back to continue:
+ *   LIST 50;afterID         (cursor is the last book's ID, -1 at the end)
+ *   LIST_ALPHA 50;title;id  (cursor is the last book's title and ID, empty at the end)
+ */
+public class LibraryServer {
+
+    public static final int DEFAULT_PORT = 5050;
+    public static final String END_OF_RESPONSE = ".";
+
+    // Group-commit settings, so bursts of checkouts share disk flushes
+    private static final int GROUP_COMMIT_BATCH = 64;
+    private static final long GROUP_COMMIT_DELAY_MS = 5;
+
+    // Entries per lookup cache unless a size is given
+    private static final int DEFAULT_CACHE_SIZE = 10_000;
+
+    private final Library library;
+    private final int port;
+
+    /**
+     * Constructor
+     * @param library The Library shared by all connections
+     * @param port TCP port to listen on
+     */
+    public LibraryServer(Library library, int port) {
+        this.library = library;
+        this.port = port;
+    }
+
+    /**
+     * Accepts connections forever, handing each one to its own thread.
+     * Virtual threads are used when the JDK provides them (Java 21+), so
+     * thousands of mostly idle terminals cost almost nothing. On older JDKs
+     * a cached pool of platform threads is used instead.
+     */
+    public void serve() throws IOException {
+        ExecutorService executor = newConnectionExecutor();
+        try (ServerSocket serverSocket = new ServerSocket(port)) {
+            System.out.println("Library server listening on port " + port);
+            while (true) {
+                Socket socket = serverSocket.accept();
+                executor.submit(() -> handle(socket));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Creates a virtual-thread-per-task executor if available.
+     * Looked up by reflection so the code still compiles on Java 17.
+     */
+    private static ExecutorService newConnectionExecutor() {
+        try {
+            return (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+    /**
+     * Serves a single connection until the client sends QUIT or disconnects.
+     */
+    private void handle(Socket socket) {
+        try (Socket s = socket;
+             BufferedReader in = new BufferedReader(
+                     new InputStreamReader(s.getInputStream(), StandardCharsets.UTF_8));
+             PrintStream out = new PrintStream(
+                     new BufferedOutputStream(s.getOutputStream()), false, StandardCharsets.UTF_8)) {
+
+            s.setTcpNoDelay(true);
+            library.setOutput(out); // This thread's messages go to this client
+
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (line.trim().equalsIgnoreCase("QUIT")) {
+                    break;
+                }
+                execute(line, out);
+                out.println(END_OF_RESPONSE);
+                out.flush();
+            }
+        } catch (IOException e) {
+            System.out.println("Connection closed: " + e.getMessage());
+        } finally {
+            library.setOutput(System.out);
+        }
+    }
+
+    /**
+     * Parses one command line and calls the matching Library operation.
+     */
+    private void execute(String line, PrintStream out) {
+        int space = line.indexOf(' ');
+        String command = (space < 0 ? line : line.substring(0, space)).trim().toUpperCase();
+        String argument = space < 0 ? "" : line.substring(space + 1).trim();
+
+        try {
+            switch (command) {
+                case "ADD": {
+                    String[] parts = argument.split(";", 2);
+                    if (parts.length < 2) {
+                        out.println("Error: usage ADD Title;Author");
+                    } else {
+                        library.addBook(parts[0], parts[1]);
+                    }
+                    break;
+                }
+                case "REMOVE":
+                    library.removeBook(Integer.parseInt(argument));
+                    break;
+                case "SEARCH_ID":
+                    library.searchByID(Integer.parseInt(argument));
+                    break;
+                case "SEARCH_TITLE":
+                    library.searchByTitle(argument);
+                    break;
+                case "PREFIX":
+                    library.searchTitlePrefix(argument);
+                    break;
+                case "CONTAINS":
+                    library.searchTitleContains(argument);
+                    break;
+                case "RANGE": {
+                    String[] parts = argument.split(";", 2);
+                    if (parts.length < 2) {
+                        out.println("Error: usage RANGE FromTitle;ToTitle");
+                    } else {
+                        library.searchTitleRange(parts[0], parts[1]);
+                    }
+                    break;
+                }
+                case "FIND": {
+                    String[] parts = argument.split(";", -1);
+                    library.findBooks(new BookQuery()
+                            .author(parts[0])
+                            .titlePrefix(parts.length > 1 ? parts[1] : null)
+                            .status(parts.length > 2 ? parts[2] : null));
+                    break;
+                }
+                case "AVAILABLE":
+                    library.listAvailableBooks();
+                    break;
+                case "BORROW":
+                    library.borrowBook(Integer.parseInt(argument));
+                    break;
+                case "RETURN":
+                    library.returnBook(Integer.parseInt(argument));
+                    break;
+                case "REQUEST": {
+                    String[] parts = argument.split(";", 2);
+                    if (parts.length < 2) {
+                        out.println("Error: usage REQUEST User;BookID");
+                    } else {
+                        library.requestBook(parts[0], Integer.parseInt(parts[1].trim()));
+                    }
+                    break;
+                }
+                case "PROCESS":
+                    library.processQueue();
+                    break;
+                case "UNDO":
+                    library.undo();
+                    break;
+                case "REDO":
+                    library.redo();
+                    break;
+                case "LIST": {
+                    if (argument.isEmpty()) {
+                        library.listAllBooks();
+                        break;
+                    }
+                    // LIST pageSize[;afterID]: one page, followed by the ID of its last book
+                    String[] parts = argument.split(";", 2);
+                    int afterID = (parts.length > 1) ? Integer.parseInt(parts[1].trim()) : 0;
+                    int lastID = library.listCatalogPage(afterID, Integer.parseInt(parts[0].trim()));
+                    out.println("NEXT " + lastID);
+                    break;
+                }
+                case "LIST_ALPHA": {
+                    if (argument.isEmpty()) {
+                        library.listAllBooksAlphabetical();
+                        break;
+                    }
+                    // LIST_ALPHA pageSize[;afterTitle[;afterID]]: one page, followed by
+                    // the title and ID of its last book. Without an ID, every book
+                    // with that title is skipped.
+                    String[] parts = argument.split(";", 3);
+                    String after = (parts.length > 1 && !parts[1].isEmpty()) ? parts[1] : null;
+                    int afterID = (parts.length > 2) ? Integer.parseInt(parts[2].trim()) : Integer.MAX_VALUE;
+                    Book last = library.listAlphabeticalPage(after, afterID, Integer.parseInt(parts[0].trim()));
+                    out.println("NEXT " + (last == null ? "" : last.getTitle() + ";" + last.getBookID()));
+                    break;
+                }
+                case "STATS":
+                    out.println("cache: " + library.cacheStats());
+                    out.println("journal: " + library.persistenceStats());
+                    break;
+                default:
+                    out.println("Error: unknown command " + command);
+            }
+        } catch (NumberFormatException e) {
+            out.println("Error: Please enter a valid number.");
+        } catch (IllegalArgumentException e) {
+            out.println("Error: " + e.getMessage());
+        } catch (Exception e) {
+            out.println("An error occurred: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Starts the server.
+     * Usage: java -cp library.jar library.LibraryServer [port] [lru|tinylfu [cacheSize]]
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        Library library = new Library(new Journal(Journal.JOURNAL_FILE, 1000,
+                GROUP_COMMIT_BATCH, GROUP_COMMIT_DELAY_MS));
+
+        // Cache hot ID and title searches if a policy is given
+        LookupCache.Policy cache = args.length > 1 ? LookupCache.Policy.parse(args[1]) : null;
+        if (cache != null) {
+            library.enableLookupCache(cache, args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_CACHE_SIZE);
+        }
+
+        // Write a final snapshot when the server is stopped (e.g. Ctrl+C)
+        Runtime.getRuntime().addShutdownHook(new Thread(library::close));
+
+        new LibraryServer(library, port).serve();
+    }
+}
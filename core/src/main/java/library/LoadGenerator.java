@@ -0,0 +1,120 @@
+package library;
+
+import java.io.*;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * LoadGenerator Class
+ * Opens many connections to a running LibraryServer and fires a mix of
+ * borrow, return and search requests at it. Reports overall throughput and
+ * the median, p99 and maximum response time of the completed requests,
+ * and separately how many requests failed (e.g. a connection that could
+ * not be opened or was closed early).
+ *
+ * Usage: java -cp library.jar library.LoadGenerator [host] [port] [connections] [requestsPerConnection] [firstID] [lastID]
+ */
+public class LoadGenerator {
+
+    public static void main(String[] args) throws Exception {
+        String host = args.length > 0 ? args[0] : "localhost";
+        int port = args.length > 1 ? Integer.parseInt(args[1]) : LibraryServer.DEFAULT_PORT;
+        int connections = args.length > 2 ? Integer.parseInt(args[2]) : 32;
+        int requests = args.length > 3 ? Integer.parseInt(args[3]) : 2000;
+        int firstID = args.length > 4 ? Integer.parseInt(args[4]) : 101;
+        int lastID = args.length > 5 ? Integer.parseInt(args[5]) : 107;
+
+        long[][] latencies = new long[connections][requests];
+        int[] completed = new int[connections]; // Samples filled in by each client
+        Thread[] clients = new Thread[connections];
+
+        long start = System.nanoTime();
+        for (int c = 0; c < connections; c++) {
+            final int client = c;
+            clients[c] = new Thread(() ->
+                    completed[client] = runClient(host, port, client, latencies[client], firstID, lastID));
+            clients[c].start();
+        }
+        for (Thread t : clients) {
+            t.join();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        // Merge the completed samples and sort them to read off the percentiles
+        int total = 0;
+        for (int c = 0; c < connections; c++) {
+            total += completed[c];
+        }
+        long[] all = new long[total];
+        int merged = 0;
+        for (int c = 0; c < connections; c++) {
+            System.arraycopy(latencies[c], 0, all, merged, completed[c]);
+            merged += completed[c];
+        }
+        Arrays.sort(all);
+
+        System.out.printf("Requests: %d over %d connections in %.2f s%n",
+                all.length, connections, elapsed / 1e9);
+        System.out.printf("Failed: %d of %d requests%n", connections * requests - all.length, connections * requests);
+        if (all.length == 0) {
+            return;
+        }
+        System.out.printf("Throughput: %.0f requests/s%n", all.length / (elapsed / 1e9));
+        System.out.printf("Latency: p50=%.1f us, p99=%.1f us, max=%.1f us%n",
+                percentile(all, 0.50) / 1e3, percentile(all, 0.99) / 1e3, all[all.length - 1] / 1e3);
+    }
+
+    /**
+     * Sends 'samples.length' requests over one connection and records
+     * the round-trip time of each. Stops at the first request that gets
+     * no complete response.
+     * @return Number of requests completed (the filled-in samples)
+     */
+    private static int runClient(String host, int port, int client, long[] samples, int firstID, int lastID) {
+        Random random = new Random(client);
+        int done = 0;
+        try (Socket socket = new Socket(host, port);
+             BufferedReader in = new BufferedReader(
+                     new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             PrintWriter out = new PrintWriter(
+                     new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8))) {
+
+            socket.setTcpNoDelay(true);
+            for (; done < samples.length; done++) {
+                int id = firstID + random.nextInt(lastID - firstID + 1);
+                int kind = random.nextInt(10);
+                String command = kind < 4 ? "BORROW " + id
+                        : kind < 8 ? "RETURN " + id
+                        : "SEARCH_ID " + id;
+
+                long sent = System.nanoTime();
+                out.println(command);
+                out.flush();
+                String line;
+                while ((line = in.readLine()) != null && !line.equals(LibraryServer.END_OF_RESPONSE)) {
+                    // Skip the response body
+                }
+                if (line == null) {
+                    System.out.println("Client " + client + " failed: connection closed by the server");
+                    return done;
+                }
+                samples[done] = System.nanoTime() - sent;
+            }
+            out.println("QUIT");
+            out.flush();
+        } catch (IOException e) {
+            System.out.println("Client " + client + " failed: " + e.getMessage());
+        }
+        return done;
+    }
+
+    /**
+     * Returns the value below which the given fraction of sorted samples fall.
+     */
+    private static long percentile(long[] sorted, double fraction) {
+        int index = (int) Math.ceil(fraction * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+}
@@ -0,0 +1,335 @@
+package library;
+
+import java.util.HashMap;
+
+/**
+ * LookupCache Class
+ * A bounded cache for the results of hot lookups (e.g. the titles on a
+ * course reading list), kept in front of the Library's indexes.
+ *
+ * Two eviction policies are available:
+ * - LRU: one list in recency order; the least recently used entry goes.
+ * - TINY_LFU (W-TinyLFU): new entries enter a small LRU window (1% of
+ *   the capacity). An entry leaving the window only gets into the main
+ *   area (a segmented LRU: 20% probation, 80% protected) if it has been
+ *   requested more often than the entry it would push out. How often a
+ *   key was requested is estimated by a count-min sketch whose counters
+ *   are halved periodically, so old popularity fades. A burst of one-off
+ *   lookups (e.g. a full scan) cannot flush out the popular entries.
+ *
+ * Invalidation: every invalidate() or clear() advances a stamp. A caller
+ * takes stamp() before a lookup and passes it to put(); if anything was
+ * invalidated in between, the possibly stale result is not cached.
+ *
+ * All methods are synchronized, so the cache can be shared by all threads.
+ */
+public class LookupCache<K, V> {
+
+    /** Eviction policy. */
+    public enum Policy {
+        LRU, TINY_LFU;
+
+        /**
+         * Parses "lru" or "tinylfu" (case-insensitive).
+         * @return The policy, or null if the text names none
+         */
+        public static Policy parse(String text) {
+            if (text.equalsIgnoreCase("lru")) return LRU;
+            if (text.equalsIgnoreCase("tinylfu") || text.equalsIgnoreCase("w-tinylfu")) return TINY_LFU;
+            return null;
+        }
+    }
+
+    // Lists an entry can be in
+    private static final byte WINDOW = 0;    // LRU: the only list
+    private static final byte PROBATION = 1;
+    private static final byte PROTECTED = 2;
+
+    /**
+     * Entry of the cache, linked into one of the three lists.
+     */
+    private static final class Node<K, V> {
+        final K key;
+        V value;
+        byte list;
+        Node<K, V> prev, next;
+
+        Node(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    private final Policy policy;
+    private final int capacity;
+    private final int windowCapacity;    // TINY_LFU only
+    private final int protectedCapacity; // TINY_LFU only
+    private final HashMap<K, Node<K, V>> entries = new HashMap<>();
+    private final Node<K, V>[] heads;    // Sentinels of the lists, most recent first
+    private final int[] sizes = new int[3];
+    private final FrequencySketch sketch;
+
+    private long stamp;  // Advanced by every invalidation
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long invalidations; // Entries removed by invalidate() or clear()
+
+    /**
+     * Constructor
+     * Time Complexity: O(c) for the frequency sketch
+     * @param policy Eviction policy
+     * @param capacity Maximum number of entries (at least 1)
+     */
+    @SuppressWarnings("unchecked")
+    public LookupCache(Policy policy, int capacity) {
+        this.policy = policy;
+        this.capacity = Math.max(1, capacity);
+        if (policy == Policy.TINY_LFU) {
+            this.windowCapacity = Math.max(1, this.capacity / 100);
+            this.protectedCapacity = (this.capacity - windowCapacity) * 8 / 10;
+            this.sketch = new FrequencySketch(this.capacity);
+        } else {
+            this.windowCapacity = this.capacity;
+            this.protectedCapacity = 0;
+            this.sketch = null;
+        }
+        heads = (Node<K, V>[]) new Node<?, ?>[3];
+        for (int i = 0; i < heads.length; i++) {
+            Node<K, V> head = new Node<>(null, null);
+            head.prev = head;
+            head.next = head;
+            heads[i] = head;
+        }
+    }
+
+    /**
+     * Returns the cached value, or null on a miss.
+     * Time Complexity: O(1) average
+     */
+    public synchronized V get(K key) {
+        if (sketch != null) {
+            sketch.increment(key.hashCode());
+        }
+        Node<K, V> node = entries.get(key);
+        if (node == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        touch(node);
+        return node.value;
+    }
+
+    /**
+     * Returns the current invalidation stamp, to be passed to put().
+     * Time Complexity: O(1)
+     */
+    public synchronized long stamp() {
+        return stamp;
+    }
+
+    /**
+     * Caches a value found by a lookup that started at the given stamp.
+     * Nothing is cached if an invalidation happened since then.
+     * Time Complexity: O(1) amortized
+     */
+    public synchronized void put(K key, V value, long lookupStamp) {
+        if (lookupStamp != stamp) {
+            return; // The value may already be stale
+        }
+        Node<K, V> node = entries.get(key);
+        if (node != null) {
+            node.value = value;
+            touch(node);
+            return;
+        }
+
+        node = new Node<>(key, value);
+        entries.put(key, node);
+        pushFront(WINDOW, node);
+        if (sizes[WINDOW] > windowCapacity) {
+            Node<K, V> candidate = heads[WINDOW].prev; // Least recently used of the window
+            if (policy == Policy.LRU) {
+                evict(candidate);
+            } else {
+                unlink(candidate);
+                pushFront(PROBATION, candidate);
+                if (sizes[PROBATION] + sizes[PROTECTED] > capacity - windowCapacity) {
+                    admit(candidate);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes the entry for a key, if any.
+     * Time Complexity: O(1) average
+     */
+    public synchronized void invalidate(K key) {
+        stamp++;
+        Node<K, V> node = entries.remove(key);
+        if (node != null) {
+            unlink(node);
+            invalidations++;
+        }
+    }
+
+    /**
+     * Removes every entry. The frequency estimates are kept.
+     * Time Complexity: O(n)
+     */
+    public synchronized void clear() {
+        stamp++;
+        invalidations += entries.size();
+        entries.clear();
+        for (int i = 0; i < heads.length; i++) {
+            heads[i].prev = heads[i];
+            heads[i].next = heads[i];
+            sizes[i] = 0;
+        }
+    }
+
+    /**
+     * Returns the number of cached entries.
+     * Time Complexity: O(1)
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the counters as a one-line summary.
+     * Time Complexity: O(1)
+     */
+    public synchronized String stats() {
+        long lookups = hits + misses;
+        double hitRate = lookups == 0 ? 0 : 100.0 * hits / lookups;
+        return String.format("policy=%s size=%d/%d hits=%d misses=%d hitRate=%.1f%% evictions=%d invalidations=%d",
+                policy, entries.size(), capacity, hits, misses, hitRate, evictions, invalidations);
+    }
+
+    // --- HELPERS ---
+
+    /**
+     * Records an access: moves the entry to the front of its list, and
+     * promotes it from probation to protected (TINY_LFU).
+     */
+    private void touch(Node<K, V> node) {
+        unlink(node);
+        if (node.list == PROBATION) {
+            pushFront(PROTECTED, node);
+            if (sizes[PROTECTED] > protectedCapacity) {
+                // Demote the least recently used protected entry
+                Node<K, V> demoted = heads[PROTECTED].prev;
+                unlink(demoted);
+                pushFront(PROBATION, demoted);
+            }
+        } else {
+            pushFront(node.list, node);
+        }
+    }
+
+    /**
+     * The main area is over capacity after the candidate joined it: keep
+     * whichever of the candidate and the victim (the least recently used
+     * entry on probation) is estimated to be requested more often.
+     */
+    private void admit(Node<K, V> candidate) {
+        Node<K, V> victim = heads[PROBATION].prev;
+        if (victim == candidate) {
+            // Only the candidate is on probation; the victim comes from protected (if any)
+            victim = heads[PROTECTED].prev;
+        }
+        if (victim != heads[PROTECTED]
+                && sketch.frequency(candidate.key.hashCode()) > sketch.frequency(victim.key.hashCode())) {
+            evict(victim);
+        } else {
+            evict(candidate);
+        }
+    }
+
+    private void evict(Node<K, V> node) {
+        unlink(node);
+        entries.remove(node.key);
+        evictions++;
+    }
+
+    private void pushFront(byte list, Node<K, V> node) {
+        Node<K, V> head = heads[list];
+        node.list = list;
+        node.prev = head;
+        node.next = head.next;
+        head.next.prev = node;
+        head.next = node;
+        sizes[list]++;
+    }
+
+    private void unlink(Node<K, V> node) {
+        node.prev.next = node.next;
+        node.next.prev = node.prev;
+        node.prev = null;
+        node.next = null;
+        sizes[node.list]--;
+    }
+
+    /**
+     * Count-min sketch of 4-bit counters: each key is counted in four
+     * rows, and its frequency is the smallest of its four counters.
+     * After 10 increments per cache entry all counters are halved.
+     */
+    private static final class FrequencySketch {
+        private static final int ROWS = 4;
+        private static final int MAX_COUNT = 15;
+        private static final int[] SEEDS = { 0x9E3779B9, 0x85EBCA6B, 0xC2B2AE35, 0x27D4EB2F };
+
+        private final byte[] counters;
+        private final int mask;
+        private final int sampleSize;
+        private int additions;
+
+        FrequencySketch(int capacity) {
+            int width = Integer.highestOneBit(Math.max(16, capacity - 1)) << 1;
+            counters = new byte[ROWS * width];
+            mask = width - 1;
+            sampleSize = 10 * capacity;
+        }
+
+        void increment(int hash) {
+            boolean added = false;
+            for (int row = 0; row < ROWS; row++) {
+                int index = indexOf(hash, row);
+                if (counters[index] < MAX_COUNT) {
+                    counters[index]++;
+                    added = true;
+                }
+            }
+            if (added && ++additions >= sampleSize) {
+                halve();
+            }
+        }
+
+        int frequency(int hash) {
+            int min = MAX_COUNT;
+            for (int row = 0; row < ROWS; row++) {
+                min = Math.min(min, counters[indexOf(hash, row)]);
+            }
+            return min;
+        }
+
+        /**
+         * Ages all counts, so keys that were popular long ago can be replaced.
+         */
+        private void halve() {
+            for (int i = 0; i < counters.length; i++) {
+                counters[i] >>= 1;
+            }
+            additions /= 2;
+        }
+
+        private int indexOf(int hash, int row) {
+            int h = (hash ^ (hash >>> 16)) * SEEDS[row];
+            return row * (mask + 1) + ((h ^ (h >>> 15)) & mask);
+        }
+    }
+}
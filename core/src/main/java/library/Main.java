@@ -0,0 +1,261 @@
+package library;
+
+import java.util.Scanner;
+
+/**
+ * Main Class
+ * The entry point of the Library Management System.
+ * Provides a console-based menu for user interaction
+ */
+public class Main {
+    
+    // Group-commit settings used with the --group-commit option
+    private static final int GROUP_COMMIT_BATCH = 64;
+    private static final long GROUP_COMMIT_DELAY_MS = 5;
+
+    // Number of books shown per page by the listing options
+    private static final int PAGE_SIZE = 20;
+
+    // Entries per lookup cache unless --cache-size is given
+    private static final int DEFAULT_CACHE_SIZE = 10_000;
+
+    public static void main(String[] args) {
+        boolean groupCommit = false;   // --group-commit: batch journal writes
+        boolean lazy = false;          // --lazy: decode books only when they are accessed
+        boolean offHeap = false;       // --off-heap: keep the books in direct memory
+        boolean columnar = false;      // --columnar: keep the books as primitive columns
+        boolean startupReport = false; // --startup-report: print startup time and heap use
+        LookupCache.Policy cache = null; // --cache=lru|tinylfu: cache hot ID and title searches
+        int cacheSize = DEFAULT_CACHE_SIZE; // --cache-size=N: entries per cache
+        for (String arg : args) {
+            if (arg.equals("--group-commit")) groupCommit = true;
+            else if (arg.equals("--lazy")) lazy = true;
+            else if (arg.equals("--off-heap")) offHeap = true;
+            else if (arg.equals("--columnar")) columnar = true;
+            else if (arg.equals("--startup-report")) startupReport = true;
+            else if (arg.startsWith("--cache=")) cache = LookupCache.Policy.parse(arg.substring(8));
+            else if (arg.startsWith("--cache-size=")) cacheSize = Integer.parseInt(arg.substring(13));
+        }
+
+        // Start the system, batching journal writes if requested
+        long startTime = System.nanoTime();
+        Journal journal = groupCommit
+                ? new Journal(Journal.JOURNAL_FILE, 1000, GROUP_COMMIT_BATCH, GROUP_COMMIT_DELAY_MS)
+                : new Journal();
+        Library library = new Library(journal, lazy, offHeap, columnar);
+        if (cache != null) {
+            library.enableLookupCache(cache, cacheSize);
+        }
+
+        if (startupReport) {
+            String mode = offHeap ? "off-heap" : columnar ? "columnar" : lazy ? "lazy" : "eager";
+            printStartupReport(library, mode, System.nanoTime() - startTime);
+        }
+        Scanner scanner = new Scanner(System.in);
+        int choice = -1;
+
+        System.out.println("Welcome to the Library Management System!");
+
+        while (choice != 0) {
+            printMenu();
+            try {
+                System.out.print("Enter your choice: ");
+                choice = Integer.parseInt(scanner.nextLine()); // to prevent error nextLine
+                
+                switch (choice) {
+                    case 1: // Add a new book 
+                        System.out.print("Enter Book Title: ");
+                        String title = scanner.nextLine();
+                        System.out.print("Enter Author Name: ");
+                        String author = scanner.nextLine();
+                        library.addBook(title, author);
+                        break;
+
+                    case 2: // Remove a book 
+                        System.out.print("Enter Book ID to remove: ");
+                        int removeId = Integer.parseInt(scanner.nextLine());
+                        library.removeBook(removeId);
+                        break;
+
+                    case 3: // Search by ID 
+                        System.out.print("Enter Book ID to search: ");
+                        int searchId = Integer.parseInt(scanner.nextLine());
+                        library.searchByID(searchId);
+                        break;
+
+                    case 4: // Search by Title 
+                        System.out.print("Enter Book Title to search: ");
+                        String searchTitle = scanner.nextLine();
+                        library.searchByTitle(searchTitle);
+                        break;
+
+                    case 5: // List all books (Dynamic Array), one page at a time
+                        System.out.println("\n--- All Books (Catalog Order) ---");
+                        int lastID = library.listCatalogPage(0, PAGE_SIZE);
+                        while (lastID >= 0 && morePages(scanner)) {
+                            lastID = library.listCatalogPage(lastID, PAGE_SIZE);
+                        }
+                        break;
+
+                    case 6: // List alphabetically (BST), one page at a time
+                        System.out.println("\n--- All Books (Alphabetical Order) ---");
+                        Book lastBook = library.listAlphabeticalPage(null, 0, PAGE_SIZE);
+                        while (lastBook != null && morePages(scanner)) {
+                            lastBook = library.listAlphabeticalPage(lastBook.getTitle(), lastBook.getBookID(), PAGE_SIZE);
+                        }
+                        break;
+
+                    case 7: // Request to borrow (Queue) 
+                        System.out.print("Enter User Name: ");
+                        String user = scanner.nextLine();
+                        System.out.print("Enter Book ID to request: ");
+                        int reqId = Integer.parseInt(scanner.nextLine());
+                        library.requestBook(user, reqId);
+                        break;
+
+                    case 8: // Process borrow requests 
+                        library.processQueue();
+                        break;
+
+                    case 9: // Borrow a book 
+                        System.out.print("Enter Book ID to borrow: ");
+                        int borrowId = Integer.parseInt(scanner.nextLine());
+                        library.borrowBook(borrowId);
+                        break;
+
+                    case 10: // Return a book 
+                        System.out.print("Enter Book ID to return: ");
+                        int returnId = Integer.parseInt(scanner.nextLine());
+                        library.returnBook(returnId);
+                        break;
+
+                    case 11: // Undo last action 
+                        library.undo();
+                        break;
+
+                    case 12: // Autocomplete by title prefix
+                        System.out.print("Enter the beginning of the title: ");
+                        library.searchTitlePrefix(scanner.nextLine());
+                        break;
+
+                    case 13: // Search by part of the title
+                        System.out.print("Enter part of the title: ");
+                        library.searchTitleContains(scanner.nextLine());
+                        break;
+
+                    case 14: // Combined search (blank = any)
+                        System.out.print("Author (blank for any): ");
+                        String queryAuthor = scanner.nextLine();
+                        System.out.print("Title starts with (blank for any): ");
+                        String queryTitle = scanner.nextLine();
+                        System.out.print("Status - Available/Borrowed (blank for any): ");
+                        String queryStatus = scanner.nextLine();
+                        library.findBooks(new BookQuery()
+                                .author(queryAuthor)
+                                .titlePrefix(queryTitle)
+                                .status(queryStatus));
+                        break;
+
+                    case 15: // Available books (bitmap)
+                        library.listAvailableBooks();
+                        break;
+
+                    case 16: // Titles in an alphabetical range (BST)
+                        System.out.print("From title: ");
+                        String rangeFrom = scanner.nextLine();
+                        System.out.print("To title: ");
+                        String rangeTo = scanner.nextLine();
+                        library.searchTitleRange(rangeFrom, rangeTo);
+                        break;
+
+                    case 17: // Redo last undone action
+                        library.redo();
+                        break;
+
+                    case 18: // Bulk import from a vendor file
+                        System.out.print("Enter file to import (Title;Author or .csv): ");
+                        library.importBooks(scanner.nextLine().trim());
+                        break;
+
+                    case 19: // Weeding: remove every book by one author
+                        System.out.print("Enter Author Name: ");
+                        library.removeBooksByAuthor(scanner.nextLine());
+                        break;
+
+                    case 0: // Exit 
+                        library.close(); // Write a final snapshot of the catalog
+                        if (groupCommit) {
+                            System.out.println("Journal: " + library.persistenceStats());
+                        }
+                        if (cache != null) {
+                            System.out.println("Cache: " + library.cacheStats());
+                        }
+                        System.out.println("Exiting system. Goodbye!");
+                        break;
+
+                    default:
+                        System.out.println("Invalid choice! Please try again.");
+                }
+            } catch (NumberFormatException e) {
+                System.out.println("Error: Please enter a valid number.");
+            } catch (IllegalArgumentException e) {
+                System.out.println("Error: " + e.getMessage());
+            } catch (Exception e) {
+                System.out.println("An error occurred: " + e.getMessage());
+            }
+        }
+        scanner.close();
+    }
+
+    /**
+     * Asks whether to show the next page of a listing.
+     * @return true unless the user typed q
+     */
+    private static boolean morePages(Scanner scanner) {
+        System.out.print("Press Enter for the next page, or q to stop: ");
+        return scanner.hasNextLine() && !scanner.nextLine().trim().equalsIgnoreCase("q");
+    }
+
+    /**
+     * Prints how long it took until the menu could accept the first request,
+     * and how much heap the loaded catalog occupies (in total and per book),
+     * plus the direct memory of an off-heap catalog.
+     */
+    private static void printStartupReport(Library library, String mode, long elapsedNanos) {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc(); // Only count live objects
+        long used = runtime.totalMemory() - runtime.freeMemory();
+        int books = library.size();
+        long offHeap = library.offHeapBytes();
+        System.out.println("Startup (" + mode + "): "
+                + (elapsedNanos / 1_000_000) + " ms, heap in use: " + (used / 1024) + " KB"
+                + (books > 0 ? " (" + (used / books) + " bytes per book, " + books + " books)" : "")
+                + (offHeap > 0 ? ", off-heap: " + (offHeap / 1024) + " KB" : ""));
+    }
+
+    private static void printMenu() {
+        System.out.println("\n--------------------------------");
+        System.out.println("Library Management System Menu");
+        System.out.println("1. Add a new book");
+        System.out.println("2. Remove a book");
+        System.out.println("3. Search book by ID");
+        System.out.println("4. Search book by title");
+        System.out.println("5. List all books (ID Order)");
+        System.out.println("6. List all books alphabetically");
+        System.out.println("7. Request to borrow a book (Queue)");
+        System.out.println("8. Process borrow requests");
+        System.out.println("9. Borrow a book");
+        System.out.println("10. Return a book");
+        System.out.println("11. Undo last action");
+        System.out.println("12. Search titles by beginning");
+        System.out.println("13. Search titles containing text");
+        System.out.println("14. Find books by author / title / status");
+        System.out.println("15. Show available books");
+        System.out.println("16. List titles in an alphabetical range");
+        System.out.println("17. Redo last undone action");
+        System.out.println("18. Import books from a file");
+        System.out.println("19. Remove all books by an author");
+        System.out.println("0. Exit");
+        System.out.println("--------------------------------");
+    }
+}
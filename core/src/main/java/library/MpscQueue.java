@@ -0,0 +1,87 @@
+package library;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * MpscQueue Class
+ * A lock-free, unbounded FIFO queue of borrow requests for many producers
+ * and a single consumer (multi-producer / single-consumer).
+ * Any number of terminals can call enqueue at the same time without
+ * blocking each other; one worker at a time drains it with dequeue.
+ *
+ * Based on Dmitry Vyukov's intrusive MPSC linked queue: a producer swaps
+ * itself in as the new tail with one atomic exchange and then links the
+ * previous tail to it. Nodes stay private to the queue: dequeue hands out
+ * only the plain Request, so a caller that keeps it (e.g. in Waitlists)
+ * never keeps the chain of later nodes alive through a node's next link.
+ */
+public class MpscQueue {
+
+    /**
+     * Node Class
+     * Holds one request and the link to the next node.
+     */
+    private static final class Node {
+        Queue.Request request; // null once the node has become the placeholder
+        volatile Node next;
+
+        Node(Queue.Request request) {
+            this.request = request;
+        }
+    }
+
+    private final AtomicReference<Node> tail; // Last node; producers swap themselves in here
+    private Node head;                        // Consumer side: node before the next request
+
+    /**
+     * Constructor
+     * Initializes an empty queue holding only a placeholder node.
+     * Time Complexity: O(1)
+     */
+    public MpscQueue() {
+        Node stub = new Node(null);
+        this.head = stub;
+        this.tail = new AtomicReference<>(stub);
+    }
+
+    /**
+     * Adds a new borrow request to the end of the queue.
+     * Safe to call from any number of threads at once; never blocks.
+     * Time Complexity: O(1)
+     * @param userName Name of the user requesting the book
+     * @param bookID ID of the requested book
+     */
+    public void enqueue(String userName, int bookID) {
+        Node node = new Node(new Queue.Request(userName, bookID));
+        Node previous = tail.getAndSet(node); // Claim the tail position
+        previous.next = node;                 // Publish the link for the consumer
+    }
+
+    /**
+     * Removes and returns the request at the front of the queue.
+     * Must only be called by one thread at a time (the consumer).
+     * A request whose producer has claimed the tail but not yet linked
+     * it is reported as "not there yet" and returned by a later call.
+     * Time Complexity: O(1)
+     * @return The oldest Request, or null if empty
+     */
+    public Queue.Request dequeue() {
+        Node next = head.next;
+        if (next == null) {
+            return null;
+        }
+        Queue.Request request = next.request;
+        next.request = null; // The node becomes the new placeholder
+        head.next = null;    // Unlink the old placeholder so it holds nothing alive
+        head = next;
+        return request;
+    }
+
+    /**
+     * Checks if the queue is empty (consumer side).
+     * Time Complexity: O(1)
+     */
+    public boolean isEmpty() {
+        return head.next == null;
+    }
+}
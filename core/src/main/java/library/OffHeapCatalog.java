@@ -0,0 +1,409 @@
+package library;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+
+/**
+ * OffHeapCatalog Class
+ * Keeps the book records outside the Java heap, in direct ByteBuffers.
+ * The heap only holds a few buffer objects however many books there are,
+ * so a garbage collection never has to trace or copy the records and
+ * stays short even for tens of millions of books.
+ *
+ * Record layout (UTF-8 text, a record never spans two chunks):
+ *   ID (4 bytes), status (1 byte, Book.Status ordinal),
+ *   title length (4), author length (4), title bytes, author bytes
+ * Records are appended to chunks of at most CHUNK_SIZE bytes. The address
+ * of a record is chunk * CHUNK_SIZE + offset.
+ *
+ * Two open-addressing tables, also off-heap, point into the records:
+ * ID -> address and case-insensitive title hash -> address.
+ *
+ * Lookups return a new Book copied from the record, so a status change
+ * must go through setStatus(). Books are only added while loading, and
+ * there is no removal; those need the full heap catalog. Lookups and
+ * status changes may run concurrently, adding may not.
+ *
+ * Direct memory is limited by -XX:MaxDirectMemorySize, which defaults to
+ * the maximum heap size, so a small heap needs the limit raised, e.g.
+ *   java -Xmx256m -XX:MaxDirectMemorySize=8g -jar library.jar --off-heap
+ */
+public class OffHeapCatalog {
+
+    private static final int CHUNK_SHIFT = 26;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT; // 64 MB
+    private static final int FIRST_CHUNK = 1 << 20;         // Chunks double up to CHUNK_SIZE
+    private static final int HEADER = 13;                   // Bytes before the title
+    private static final Book.Status[] STATUSES = Book.Status.values();
+
+    private ByteBuffer[] chunks = new ByteBuffer[8];
+    private int[] used = new int[8]; // Bytes used in each chunk
+    private int chunkCount;
+    private final AddressTable byID = new AddressTable();
+    private final AddressTable byTitle = new AddressTable();
+    private int size;
+    private int maxID;
+
+    /**
+     * Loads a text catalog (books.txt format) into a new off-heap store.
+     * Lines are copied from the read buffer straight into the records,
+     * without creating a Book or String per line.
+     * Time Complexity: O(k) for k bytes
+     * @param fileName Path of the text catalog
+     * @return The loaded store, or null if it could not be loaded
+     *         (e.g. not enough direct memory)
+     */
+    public static OffHeapCatalog load(String fileName) {
+        OffHeapCatalog catalog = new OffHeapCatalog();
+        File file = new File(fileName);
+        if (!file.exists()) return catalog;
+
+        try (InputStream in = new FileInputStream(file)) {
+            BookCodec.decodeFields(in, catalog::add);
+        } catch (IOException | RuntimeException | OutOfMemoryError e) {
+            catalog.free();
+            System.out.println("Error loading off-heap catalog: " + e.getMessage());
+            return null;
+        }
+        return catalog;
+    }
+
+    /**
+     * Appends a book whose title and author are UTF-8 bytes of data.
+     * A later book with the same ID replaces the earlier one in the ID index.
+     * Time Complexity: O(k) amortized for k bytes
+     */
+    public void add(int id, byte[] data, int titleFrom, int titleTo,
+                    int authorFrom, int authorTo, Book.Status status) {
+        if (id < 0) {
+            throw new IllegalArgumentException("Negative book ID: " + id);
+        }
+        int titleLength = titleTo - titleFrom;
+        int authorLength = authorTo - authorFrom;
+        long address = reserve(HEADER + titleLength + authorLength);
+        ByteBuffer chunk = chunkOf(address);
+        int at = offsetOf(address);
+
+        chunk.putInt(at, id);
+        chunk.put(at + 4, (byte) status.ordinal());
+        chunk.putInt(at + 5, titleLength);
+        chunk.putInt(at + 9, authorLength);
+        chunk.put(at + HEADER, data, titleFrom, titleLength);
+        chunk.put(at + HEADER + titleLength, data, authorFrom, authorLength);
+
+        byID.put(id + 1, address, true); // Key 0 marks an empty slot
+        byTitle.put(titleKey(LazyCatalog.titleHash(data, titleFrom, titleTo)), address, false);
+        size++;
+        maxID = Math.max(maxID, id);
+    }
+
+    /**
+     * Appends a book given as Strings.
+     * Time Complexity: O(k) amortized for k characters
+     */
+    public void add(int id, String title, String author, Book.Status status) {
+        byte[] titleBytes = title.getBytes(StandardCharsets.UTF_8);
+        byte[] authorBytes = author.getBytes(StandardCharsets.UTF_8);
+        byte[] data = new byte[titleBytes.length + authorBytes.length];
+        System.arraycopy(titleBytes, 0, data, 0, titleBytes.length);
+        System.arraycopy(authorBytes, 0, data, titleBytes.length, authorBytes.length);
+        add(id, data, 0, titleBytes.length, titleBytes.length, data.length, status);
+    }
+
+    /**
+     * Finds a book by ID.
+     * Time Complexity: O(1) average
+     * @return A copy of the book, or null if no book has this ID
+     */
+    public Book findByID(int id) {
+        long address = byID.get(id + 1);
+        return address < 0 ? null : materialize(address);
+    }
+
+    /**
+     * Finds a book by its exact title, ignoring case.
+     * Time Complexity: O(1) average
+     * @return A copy of the book, or null if no book has this title
+     */
+    public Book findByTitle(String title) {
+        int key = titleKey(LazyCatalog.titleHash(title));
+        for (int slot = byTitle.start(key); byTitle.keyAt(slot) != 0; slot = byTitle.next(slot)) {
+            if (byTitle.keyAt(slot) == key) {
+                Book book = materialize(byTitle.addressAt(slot));
+                if (book.getTitle().equalsIgnoreCase(title)) {
+                    return book;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Overwrites the status of a book in place (a single byte).
+     * Time Complexity: O(1) average
+     * @return true if the book exists
+     */
+    public boolean setStatus(int id, Book.Status status) {
+        long address = byID.get(id + 1);
+        if (address < 0) return false;
+        chunkOf(address).put(offsetOf(address) + 4, (byte) status.ordinal());
+        return true;
+    }
+
+    /**
+     * Returns the number of books.
+     * Time Complexity: O(1)
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the highest ID in the store (0 if it is empty).
+     * Time Complexity: O(1)
+     */
+    public int getMaxID() {
+        return maxID;
+    }
+
+    /**
+     * Returns the direct memory held by the records and both indexes.
+     * Time Complexity: O(c) for c chunks
+     */
+    public long memoryBytes() {
+        long bytes = byID.memoryBytes() + byTitle.memoryBytes();
+        for (int i = 0; i < chunkCount; i++) {
+            bytes += chunks[i].capacity();
+        }
+        return bytes;
+    }
+
+    /**
+     * Writes all books to a text catalog (books.txt format), in the order
+     * they were added. Like FileIO.saveBooks, the file is written next to
+     * the target and moved over it at the end.
+     * Time Complexity: O(k) for k bytes
+     * @param fileName Path of the file to write
+     * @return true if the file was written and moved into place
+     */
+    public boolean save(String fileName) {
+        File temp = new File(fileName + ".tmp");
+        try (BookCodec.Writer writer = new BookCodec.Writer(new FileOutputStream(temp))) {
+            byte[] text = new byte[256];
+            for (int c = 0; c < chunkCount; c++) {
+                ByteBuffer chunk = chunks[c];
+                int at = 0;
+                while (at < used[c]) {
+                    int titleLength = chunk.getInt(at + 5);
+                    int authorLength = chunk.getInt(at + 9);
+                    int length = titleLength + authorLength;
+                    if (length > text.length) {
+                        text = new byte[Math.max(length, text.length * 2)];
+                    }
+                    chunk.get(at + HEADER, text, 0, length);
+                    writer.writeFields(chunk.getInt(at), text, 0, titleLength, titleLength, length,
+                            STATUSES[chunk.get(at + 4)]);
+                    at += HEADER + length;
+                }
+            }
+        } catch (IOException e) {
+            System.out.println("Error saving books: " + e.getMessage());
+            return false;
+        }
+
+        try {
+            Files.move(temp.toPath(), Paths.get(fileName),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        } catch (IOException e) {
+            System.out.println("Error saving books: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Drops the buffers. The direct memory is given back once the garbage
+     * collector has collected the buffer objects.
+     * Time Complexity: O(1)
+     */
+    public void free() {
+        chunks = new ByteBuffer[0];
+        used = new int[0];
+        chunkCount = 0;
+        byID.free();
+        byTitle.free();
+        size = 0;
+    }
+
+    // --- HELPERS ---
+
+    /**
+     * Decodes the record at the given address into a new Book.
+     * Time Complexity: O(k) for k bytes
+     */
+    private Book materialize(long address) {
+        ByteBuffer chunk = chunkOf(address);
+        int at = offsetOf(address);
+        int titleLength = chunk.getInt(at + 5);
+        int authorLength = chunk.getInt(at + 9);
+        byte[] text = new byte[titleLength + authorLength];
+        chunk.get(at + HEADER, text);
+        return new Book(chunk.getInt(at),
+                new String(text, 0, titleLength, StandardCharsets.UTF_8),
+                new String(text, titleLength, authorLength, StandardCharsets.UTF_8),
+                STATUSES[chunk.get(at + 4)]);
+    }
+
+    /**
+     * Returns the address of a free range of the given length at the end
+     * of the last chunk, starting a new chunk if it does not fit.
+     * Time Complexity: O(1) amortized
+     */
+    private long reserve(int length) {
+        if (length > CHUNK_SIZE) {
+            throw new IllegalArgumentException("Record too long: " + length + " bytes");
+        }
+        if (chunkCount == 0 || used[chunkCount - 1] + length > chunks[chunkCount - 1].capacity()) {
+            if (chunkCount == chunks.length) {
+                chunks = java.util.Arrays.copyOf(chunks, chunkCount * 2);
+                used = java.util.Arrays.copyOf(used, chunkCount * 2);
+            }
+            int capacity = chunkCount == 0 ? FIRST_CHUNK
+                    : Math.min(CHUNK_SIZE, chunks[chunkCount - 1].capacity() * 2);
+            chunks[chunkCount++] = allocate(Math.max(capacity, length));
+        }
+        int chunk = chunkCount - 1;
+        long address = ((long) chunk << CHUNK_SHIFT) + used[chunk];
+        used[chunk] += length;
+        return address;
+    }
+
+    /**
+     * Allocates a zeroed direct buffer in the platform's byte order.
+     */
+    private static ByteBuffer allocate(int bytes) {
+        return ByteBuffer.allocateDirect(bytes).order(ByteOrder.nativeOrder());
+    }
+
+    private ByteBuffer chunkOf(long address) {
+        return chunks[(int) (address >>> CHUNK_SHIFT)];
+    }
+
+    private static int offsetOf(long address) {
+        return (int) address & (CHUNK_SIZE - 1);
+    }
+
+    /**
+     * Title hashes are stored as table keys, where 0 means empty.
+     */
+    private static int titleKey(int hash) {
+        return hash == 0 ? 1 : hash;
+    }
+
+    /**
+     * Open-addressing hash table in a direct buffer, from a non-zero int
+     * key to a record address. Each slot is 12 bytes: the key and the
+     * address. A key may appear in several slots (titles with the same
+     * hash), so callers walk from start(key) until an empty slot.
+     */
+    private static final class AddressTable {
+        private static final int SLOT = 12;
+        private static final int MAX_SLOTS = 1 << 27; // 1.5 GB, about the most one buffer holds
+
+        private ByteBuffer slots = allocate(1024 * SLOT);
+        private int mask = 1023;
+        private int size;
+
+        /**
+         * Adds a key, or replaces the address of an existing one.
+         * Time Complexity: O(1) amortized
+         */
+        void put(int key, long address, boolean replace) {
+            if (replace) {
+                for (int slot = start(key); keyAt(slot) != 0; slot = next(slot)) {
+                    if (keyAt(slot) == key) {
+                        slots.putLong(slot * SLOT + 4, address);
+                        return;
+                    }
+                }
+            }
+            if ((size + 1) * 4L > (mask + 1) * 3L) { // Load factor 0.75
+                grow();
+            }
+            insert(key, address);
+            size++;
+        }
+
+        /**
+         * Returns the address of the first slot with the key, or -1.
+         * Time Complexity: O(1) average
+         */
+        long get(int key) {
+            for (int slot = start(key); keyAt(slot) != 0; slot = next(slot)) {
+                if (keyAt(slot) == key) {
+                    return addressAt(slot);
+                }
+            }
+            return -1;
+        }
+
+        int start(int key) {
+            int h = key * 0x9E3779B9;
+            return (h ^ (h >>> 16)) & mask;
+        }
+
+        int next(int slot) {
+            return (slot + 1) & mask;
+        }
+
+        int keyAt(int slot) {
+            return slots.getInt(slot * SLOT);
+        }
+
+        long addressAt(int slot) {
+            return slots.getLong(slot * SLOT + 4);
+        }
+
+        long memoryBytes() {
+            return slots.capacity();
+        }
+
+        void free() {
+            slots = allocate(SLOT);
+            mask = 0;
+            size = 0;
+        }
+
+        private void insert(int key, long address) {
+            int slot = start(key);
+            while (keyAt(slot) != 0) {
+                slot = next(slot);
+            }
+            slots.putInt(slot * SLOT, key);
+            slots.putLong(slot * SLOT + 4, address);
+        }
+
+        /**
+         * Doubles the table and re-inserts every entry.
+         * Time Complexity: O(n)
+         */
+        private void grow() {
+            int capacity = mask + 1;
+            if (capacity >= MAX_SLOTS) {
+                throw new IllegalStateException("Too many books for the off-heap index");
+            }
+            ByteBuffer old = slots;
+            slots = allocate(capacity * 2 * SLOT);
+            mask = capacity * 2 - 1;
+            for (int slot = 0; slot < capacity; slot++) {
+                int key = old.getInt(slot * SLOT);
+                if (key != 0) {
+                    insert(key, old.getLong(slot * SLOT + 4));
+                }
+            }
+        }
+    }
+}
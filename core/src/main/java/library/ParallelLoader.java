@@ -0,0 +1,145 @@
+package library;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * ParallelLoader Class
+ * Loads books.txt at startup using every core.
+ *
+ * The file is read into memory and cut into byte ranges that end at line
+ * breaks. The ranges are parsed on the common fork-join pool; each one
+ * also tracks the highest ID it saw, so no second pass over the catalog
+ * is needed. The ID index and the title tree are then built at the same
+ * time: the index on one pool thread, the tree by a parallel sort and a
+ * bottom-up build on the calling thread.
+ *
+ * The result is the same as FileIO.loadBooks followed by filling the ID
+ * index: books keep their file order in the array, and every book is in
+ * the title tree, ordered by title and then ID.
+ */
+public class ParallelLoader {
+
+    private static final int MIN_RANGE_BYTES = 256 * 1024; // Smaller files are not split further
+
+    /**
+     * The books parsed from one byte range.
+     */
+    private static class Part implements BookCodec.Sink {
+        Book[] books = new Book[64];
+        int count;
+        int maxID;
+
+        @Override
+        public void accept(Book book) {
+            if (count == books.length) {
+                books = Arrays.copyOf(books, count * 2);
+            }
+            books[count++] = book;
+            maxID = Math.max(maxID, book.getBookID());
+        }
+    }
+
+    /**
+     * Parses the byte ranges [lo, hi) of the file, splitting the work in
+     * halves until a single range is left (fork-join style).
+     */
+    private static class ParseTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final byte[] data;
+        private final int[] bounds; // Range i is bounds[i] .. bounds[i + 1]
+        private final Part[] parts;
+        private final int lo, hi;
+
+        ParseTask(byte[] data, int[] bounds, Part[] parts, int lo, int hi) {
+            this.data = data;
+            this.bounds = bounds;
+            this.parts = parts;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo == 1) {
+                Part part = new Part();
+                BookCodec.decode(data, bounds[lo], bounds[lo + 1], part);
+                parts[lo] = part;
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new ParseTask(data, bounds, parts, lo, mid),
+                      new ParseTask(data, bounds, parts, mid, hi));
+        }
+    }
+
+    /**
+     * Loads the given book file (books.txt format) into the array, the
+     * title tree and the ID index.
+     * Time Complexity: O(n / p + n log n / p) for n books on p cores
+     * @return The highest book ID in the file, or 0 if there is none
+     */
+    public static int load(String fileName, DynamicArray array, BST bst, IntHashMap<Book> index) {
+        Path path = Paths.get(fileName);
+        if (!Files.exists(path)) return 0; // If file doesn't exist, do nothing
+
+        byte[] data;
+        try {
+            data = Files.readAllBytes(path);
+        } catch (IOException e) {
+            System.out.println("Error loading books: " + e.getMessage());
+            return 0;
+        }
+
+        // 1. Cut the file into ranges that end at line breaks
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        int ranges = (int) Math.max(1, Math.min(4L * pool.getParallelism(), data.length / MIN_RANGE_BYTES));
+        int[] bounds = new int[ranges + 1];
+        for (int i = 1; i < ranges; i++) {
+            int pos = Math.max(bounds[i - 1], (int) ((long) data.length * i / ranges));
+            while (pos < data.length && data[pos - 1] != '\n') {
+                pos++;
+            }
+            bounds[i] = pos;
+        }
+        bounds[ranges] = data.length;
+
+        // 2. Parse all ranges in parallel
+        Part[] parts = new Part[ranges];
+        pool.invoke(new ParseTask(data, bounds, parts, 0, ranges));
+
+        int total = 0;
+        int maxID = 0;
+        for (Part part : parts) {
+            total += part.count;
+            maxID = Math.max(maxID, part.maxID);
+        }
+        Book[] books = new Book[total];
+        int offset = 0;
+        for (Part part : parts) {
+            System.arraycopy(part.books, 0, books, offset, part.count);
+            offset += part.count;
+        }
+        array.addAll(books);
+
+        // 3. Build the ID index and the title tree at the same time
+        ForkJoinTask<?> indexTask = pool.submit(() -> {
+            for (Book book : books) {
+                index.put(book.getBookID(), book);
+            }
+        });
+        Book[] byTitle = books.clone();
+        Arrays.parallelSort(byTitle, BST.ORDER);
+        bst.insertAllSorted(byTitle);
+        indexTask.join();
+
+        return maxID;
+    }
+}
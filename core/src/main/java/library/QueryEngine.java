@@ -0,0 +1,147 @@
+package library;
+
+/**
+ * QueryEngine Class
+ * Answers multi-field BookQuery searches using the Library's indexes.
+ *
+ * Each author word and the title prefix contribute one sorted ID list
+ * (from AuthorIndex and TitleSearch). The lists are intersected from the
+ * shortest upwards, and only the surviving IDs are checked against the
+ * real book. A status-only query walks the availability bitmap instead:
+ * its set bits for AVAILABLE and its clear bits for BORROWED. The catalog
+ * is scanned only for a query with no filters at all.
+ */
+public class QueryEngine {
+
+    private final IntHashMap<Book> books;
+    private final DynamicArray catalog;
+    private final TitleSearch titles;
+    private final AuthorIndex authors;
+    private final AvailabilityIndex availability;
+
+    /**
+     * Constructor
+     * Time Complexity: O(1)
+     */
+    public QueryEngine(IntHashMap<Book> books, DynamicArray catalog, TitleSearch titles,
+                       AuthorIndex authors, AvailabilityIndex availability) {
+        this.books = books;
+        this.catalog = catalog;
+        this.titles = titles;
+        this.authors = authors;
+        this.availability = availability;
+    }
+
+    /**
+     * Runs a query through the indexes.
+     * Time Complexity: O(s log l + r) for a shortest list of s IDs,
+     * longest list of l IDs and r results
+     * @return Matching books in ID order, at most query.limit of them
+     */
+    public DynamicArray execute(BookQuery query) {
+        DynamicArray results = new DynamicArray();
+        String[] authorWords = (query.author == null) ? new String[0] : AuthorIndex.tokens(query.author);
+
+        // 1. Gather one ID list per filter; a missing list means no match at all
+        IntList[] lists = new IntList[authorWords.length + 1];
+        int count = 0;
+        for (String word : authorWords) {
+            IntList list = authors.get(word);
+            if (list == null) return results;
+            lists[count++] = list;
+        }
+        if (query.titlePrefix != null) {
+            IntList list = titles.prefixCandidates(query.titlePrefix);
+            if (list == null) return results;
+            lists[count++] = list;
+        }
+        if (count == 0 && query.status == Book.Status.AVAILABLE) {
+            // Only "available": walk the set bits of the bitmap
+            for (int id = availability.next(0); id >= 0 && results.size() < query.limit;
+                 id = availability.next(id + 1)) {
+                Book b = books.get(id);
+                if (b != null) {
+                    results.add(b);
+                }
+            }
+            return results;
+        }
+        if (count == 0 && query.status == Book.Status.BORROWED) {
+            // Only "borrowed": walk the clear bits, skipping IDs without a book
+            for (int id = availability.nextClear(0); id >= 0 && results.size() < query.limit;
+                 id = availability.nextClear(id + 1)) {
+                Book b = books.get(id);
+                if (b != null && b.getStatusCode() == Book.Status.BORROWED) {
+                    results.add(b);
+                }
+            }
+            return results;
+        }
+        if (count == 0) {
+            return scan(query); // Nothing to intersect
+        }
+
+        // 2. Intersect, shortest list first, so intermediate results stay small
+        java.util.Arrays.sort(lists, 0, count, (a, b) -> Integer.compare(a.size(), b.size()));
+        IntList candidates = lists[0];
+        for (int i = 1; i < count && candidates.size() > 0; i++) {
+            candidates = IntList.intersect(candidates, lists[i]);
+        }
+
+        // 3. Check the remaining candidates against the actual books
+        for (int i = 0; i < candidates.size() && results.size() < query.limit; i++) {
+            Book b = books.get(candidates.get(i));
+            if (b != null && matches(b, query, authorWords)) {
+                results.add(b);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Runs a query by checking every book in the catalog.
+     * Used when no index applies, and as a baseline for benchmarks.
+     * Time Complexity: O(n)
+     * @return Matching books in catalog order, at most query.limit of them
+     */
+    public DynamicArray scan(BookQuery query) {
+        DynamicArray results = new DynamicArray();
+        String[] authorWords = (query.author == null) ? new String[0] : AuthorIndex.tokens(query.author);
+
+        for (int i = 0; i < catalog.size() && results.size() < query.limit; i++) {
+            Book b = catalog.get(i);
+            if (b != null && matches(b, query, authorWords)) {
+                results.add(b);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Checks a single book against all filters of the query.
+     * Time Complexity: O(k) for names and titles of k characters
+     */
+    private static boolean matches(Book b, BookQuery query, String[] authorWords) {
+        if (query.status != null && b.getStatusCode() != query.status) {
+            return false;
+        }
+        if (query.titlePrefix != null
+                && !b.getTitle().toLowerCase().startsWith(query.titlePrefix.toLowerCase())) {
+            return false;
+        }
+        if (authorWords.length > 0) {
+            String[] bookWords = AuthorIndex.tokens(b.getAuthor());
+            for (String word : authorWords) {
+                boolean found = false;
+                for (String bookWord : bookWords) {
+                    if (bookWord.equals(word)) {
+                        found = true;
+                        break;
+                    }
+                }
+                if (!found) return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,168 @@
+package library;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * StringPool Class
+ * Keeps one canonical String instance per distinct value, so that the
+ * millions of books written by a few thousand authors all share the same
+ * author Strings instead of carrying a copy each.
+ * (Statuses need no pool: Book stores them as a Book.Status constant.)
+ *
+ * The pool can look up text directly from a byte buffer, so a file
+ * decoder only creates a new String for an author it has not seen yet.
+ *
+ * The table is split into segments with their own lock, so parallel
+ * loaders rarely wait for each other. Entries are never removed; the pool
+ * only holds distinct values, which the books keep alive anyway.
+ */
+public class StringPool {
+
+    /** Shared pool for author names. */
+    public static final StringPool AUTHORS = new StringPool();
+
+    private static final int SEGMENTS = 16; // Must be a power of two
+
+    /**
+     * One part of the pool: an open-addressing hash table of Strings.
+     */
+    private static final class Segment {
+        private String[] table = new String[64];
+        private int size;
+
+        /**
+         * Returns the pooled instance equal to the text, adding it if needed.
+         * Time Complexity: O(k) average for k characters
+         */
+        synchronized String intern(String text, int hash) {
+            int mask = table.length - 1;
+            int slot = spread(hash) & mask;
+            String entry;
+            while ((entry = table[slot]) != null) {
+                if (entry.hashCode() == hash && entry.equals(text)) {
+                    return entry;
+                }
+                slot = (slot + 1) & mask;
+            }
+            insert(slot, text);
+            return text;
+        }
+
+        /**
+         * Same as above for ASCII text given as bytes. Only creates a
+         * String if the value is not pooled yet.
+         * Time Complexity: O(k) average for k bytes
+         */
+        synchronized String intern(byte[] data, int from, int to, int hash) {
+            int mask = table.length - 1;
+            int slot = spread(hash) & mask;
+            String entry;
+            while ((entry = table[slot]) != null) {
+                if (entry.hashCode() == hash && sameText(entry, data, from, to)) {
+                    return entry;
+                }
+                slot = (slot + 1) & mask;
+            }
+            String text = new String(data, from, to - from, StandardCharsets.ISO_8859_1);
+            insert(slot, text);
+            return text;
+        }
+
+        private void insert(int slot, String text) {
+            table[slot] = text;
+            if (++size * 2 > table.length) {
+                grow();
+            }
+        }
+
+        /**
+         * Doubles the table and re-inserts every entry.
+         * Time Complexity: O(n)
+         */
+        private void grow() {
+            String[] old = table;
+            table = new String[old.length * 2];
+            int mask = table.length - 1;
+            for (String entry : old) {
+                if (entry != null) {
+                    int slot = spread(entry.hashCode()) & mask;
+                    while (table[slot] != null) {
+                        slot = (slot + 1) & mask;
+                    }
+                    table[slot] = entry;
+                }
+            }
+        }
+
+        synchronized int size() {
+            return size;
+        }
+    }
+
+    private final Segment[] segments = new Segment[SEGMENTS];
+
+    /**
+     * Constructor
+     * Time Complexity: O(1)
+     */
+    public StringPool() {
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment();
+        }
+    }
+
+    /**
+     * Returns the canonical instance of the text (the text itself if it
+     * was not pooled yet). Null is returned unchanged.
+     * Time Complexity: O(k) average for k characters
+     */
+    public String intern(String text) {
+        if (text == null) return null;
+        int hash = text.hashCode();
+        return segments[hash & (SEGMENTS - 1)].intern(text, hash);
+    }
+
+    /**
+     * Returns the canonical instance of the UTF-8 text in data[from, to).
+     * ASCII text is looked up without creating a String first.
+     * Time Complexity: O(k) average for k bytes
+     */
+    public String intern(byte[] data, int from, int to) {
+        int hash = 0;
+        for (int i = from; i < to; i++) {
+            byte b = data[i];
+            if (b < 0) { // Not ASCII: decode first
+                return intern(new String(data, from, to - from, StandardCharsets.UTF_8));
+            }
+            hash = 31 * hash + b; // Same as String.hashCode for ASCII
+        }
+        return segments[hash & (SEGMENTS - 1)].intern(data, from, to, hash);
+    }
+
+    /**
+     * Returns the number of distinct values in the pool.
+     * Time Complexity: O(1)
+     */
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /**
+     * Mixes the bits of a hash code; the low bits already chose the segment.
+     */
+    private static int spread(int hash) {
+        return (hash ^ (hash >>> 16)) * 0x9E3779B9 >>> 4;
+    }
+
+    private static boolean sameText(String text, byte[] data, int from, int to) {
+        if (text.length() != to - from) return false;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) != data[from + i]) return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,240 @@
+package library;
+
+/**
+ * TitleSearch Class
+ * Partial title search for patrons who only remember part of a title.
+ * Supports prefix autocomplete ("harr" -> "Harry Potter") and substring
+ * matches ("potter" -> "Harry Potter") without scanning the catalog.
+ *
+ * Each title is split into overlapping 3-character pieces (trigrams), and
+ * for every trigram the index keeps the IDs of the books containing it.
+ * Extra trigrams mark the start of the title and the start of each word,
+ * so one- and two-letter queries can be answered too. A query looks up
+ * its trigrams, takes the shortest ID list and checks only those books.
+ * Matching is case-insensitive.
+ *
+ * Removal is lazy: removed IDs stay in the lists but are skipped during
+ * the check, and the index is rebuilt once they make up half of it.
+ *
+ * ID lists are kept in ascending order without repeats, so they can be
+ * intersected with other indexes. New books get the highest ID and are
+ * appended; a book restored by undo gets its old ID back and is inserted
+ * in place (or found still there, if its removal was never purged).
+ */
+public class TitleSearch {
+
+    private static final char TITLE_START = '\u0001'; // Marks the beginning of the title
+    private static final char WORD_START = '\u0002';  // Marks the beginning of a word
+
+    private final IntHashMap<Book> books; // Live books by ID, used to verify candidates
+    private IntHashMap<IntList> grams;    // Trigram -> IDs of books containing it
+    private int indexed;                  // Books added since the last rebuild
+    private int removed;                  // Books removed since the last rebuild
+
+    /**
+     * Constructor
+     * Time Complexity: O(1)
+     * @param books The Library's ID index; candidates are checked against it
+     */
+    public TitleSearch(IntHashMap<Book> books) {
+        this.books = books;
+        this.grams = new IntHashMap<>();
+    }
+
+    /**
+     * Adds a book's title to the index.
+     * Time Complexity: O(k) for a title of k characters
+     */
+    public void add(Book book) {
+        String title = fold(book.getTitle());
+        int id = book.getBookID();
+
+        for (int i = 0; i < title.length(); i++) {
+            char c = title.charAt(i);
+            char next = (i + 1 < title.length()) ? title.charAt(i + 1) : WORD_START;
+
+            if (i == 0) {
+                post(gram(TITLE_START, TITLE_START, c), id);
+                post(gram(TITLE_START, c, next), id);
+            }
+            if (i == 0 || title.charAt(i - 1) == ' ') {
+                post(gram(WORD_START, WORD_START, c), id);
+                post(gram(WORD_START, c, next), id);
+            }
+            if (i + 2 < title.length()) {
+                post(gram(c, next, title.charAt(i + 2)), id);
+            }
+        }
+        indexed++;
+    }
+
+    /**
+     * Marks a book's title as removed.
+     * Its ID is left in the lists and filtered out at query time.
+     * Time Complexity: O(1)
+     */
+    public void remove(Book book) {
+        removed++;
+    }
+
+    /**
+     * Checks if removed books make up so much of the index that it
+     * should be rebuilt.
+     * Time Complexity: O(1)
+     */
+    public boolean needsRebuild() {
+        return removed > 1000 && removed * 2 > indexed;
+    }
+
+    /**
+     * Rebuilds the whole index from the given catalog.
+     * Books are added in ID order so every ID list ends up sorted.
+     * Time Complexity: O(n log n + n * k) for n titles of k characters
+     */
+    public void rebuild(DynamicArray catalog) {
+        grams = new IntHashMap<>();
+        indexed = 0;
+        removed = 0;
+        for (Book b : catalog.sortedByID()) {
+            add(b);
+        }
+    }
+
+    /**
+     * Finds books whose title starts with the given text.
+     * Time Complexity: O(q + c) for a query of q characters and c candidates checked
+     * @param prefix Beginning of the title (case-insensitive)
+     * @param limit Maximum number of results
+     * @return The matching books, in ID order
+     */
+    public DynamicArray prefix(String prefix, int limit) {
+        String query = fold(prefix);
+        DynamicArray results = new DynamicArray();
+        if (query.isEmpty()) return results;
+
+        collect(prefixCandidates(query), query, true, limit, results);
+        return results;
+    }
+
+    /**
+     * Returns a sorted ID list that contains every book whose title starts
+     * with the given text (plus possibly some that do not), or null if no
+     * title can match. Used by QueryEngine to combine title and author filters.
+     * Time Complexity: O(q)
+     */
+    public IntList prefixCandidates(String prefix) {
+        String query = fold(prefix);
+        if (query.isEmpty()) return null;
+
+        if (query.length() == 1) {
+            return grams.get(gram(TITLE_START, TITLE_START, query.charAt(0)));
+        }
+        IntList start = grams.get(gram(TITLE_START, query.charAt(0), query.charAt(1)));
+        return (start == null) ? null : shortest(start, query);
+    }
+
+    /**
+     * Finds books whose title contains the given text anywhere.
+     * Queries shorter than three characters match the beginning of any
+     * word in the title instead (e.g. "po" finds "Harry Potter").
+     * Time Complexity: O(q + c) for a query of q characters and c candidates checked
+     * @param text Text to look for (case-insensitive)
+     * @param limit Maximum number of results
+     * @return The matching books, in ID order
+     */
+    public DynamicArray contains(String text, int limit) {
+        String query = fold(text);
+        DynamicArray results = new DynamicArray();
+        if (query.isEmpty()) return results;
+
+        if (query.length() < 3) {
+            char next = (query.length() == 2) ? query.charAt(1) : 0;
+            IntList candidates = (query.length() == 1)
+                    ? grams.get(gram(WORD_START, WORD_START, query.charAt(0)))
+                    : grams.get(gram(WORD_START, query.charAt(0), next));
+            collect(candidates, " " + query, false, limit, results);
+        } else {
+            collect(shortest(null, query), query, false, limit, results);
+        }
+        return results;
+    }
+
+    /**
+     * Returns the shortest ID list among 'start' and the trigrams of the query.
+     * Every matching book appears in all of these lists, so checking the
+     * shortest one is enough. Returns null if any trigram is missing.
+     * Time Complexity: O(q)
+     */
+    private IntList shortest(IntList start, String query) {
+        IntList best = start;
+        boolean first = (start == null);
+        for (int i = 0; i + 2 < query.length(); i++) {
+            IntList list = grams.get(gram(query.charAt(i), query.charAt(i + 1), query.charAt(i + 2)));
+            if (list == null) {
+                return null; // No title contains this piece of the query
+            }
+            if (first || list.size() < best.size()) {
+                best = list;
+                first = false;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Checks each candidate against the real title and keeps the matches.
+     * Candidates that were removed, or only share trigrams with the query,
+     * are skipped. A query starting with a space matches at word starts.
+     * Time Complexity: O(c) for c candidates checked
+     */
+    private void collect(IntList candidates, String query, boolean prefixOnly, int limit, DynamicArray results) {
+        if (candidates == null) return;
+
+        for (int i = 0; i < candidates.size() && results.size() < limit; i++) {
+            Book b = books.get(candidates.get(i));
+            if (b == null) continue; // Removed since it was indexed
+
+            String title = fold(b.getTitle());
+            boolean match;
+            if (prefixOnly) {
+                match = title.startsWith(query);
+            } else if (query.charAt(0) == ' ') {
+                match = (" " + title).contains(query);
+            } else {
+                match = title.contains(query);
+            }
+            if (match) {
+                results.add(b);
+            }
+        }
+    }
+
+    /**
+     * Adds an ID to a trigram's list at its sorted position, skipping repeats.
+     * Time Complexity: O(1) amortized for a new highest ID, O(l) otherwise
+     */
+    private void post(int key, int id) {
+        IntList list = grams.get(key);
+        if (list == null) {
+            list = new IntList(2);
+            grams.put(key, list);
+        }
+        list.addSorted(id);
+    }
+
+    /**
+     * Packs three characters into one int key (10 bits each). Characters
+     * beyond that range may make different trigrams share a key; such
+     * false candidates are removed when titles are checked.
+     */
+    private static int gram(char a, char b, char c) {
+        return (a << 20) ^ (b << 10) ^ c;
+    }
+
+    /**
+     * Lower-cases text the same way for indexing and for queries.
+     */
+    private static String fold(String text) {
+        return text.toLowerCase();
+    }
+}
@@ -0,0 +1,323 @@
+package library;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+
+/**
+ * UndoHistory Class
+ * Bounded history of catalog changes with multi-level undo and redo.
+ *
+ * The actions live in a ring buffer of fixed capacity, stored as parallel
+ * arrays, so recording an action allocates nothing and memory stays the
+ * same however long the program runs. Once the buffer is full, each new
+ * action overwrites the oldest one.
+ *
+ * Undoing moves a cursor back; redoing moves it forward again. Recording a
+ * new action discards everything that could still be redone.
+ *
+ * The history is kept in books.history next to the book data. Once loaded
+ * from a file, every action, undo and redo is appended to that file as it
+ * happens, so a crash loses nothing; whenever a snapshot of the books is
+ * written, save() rewrites the file compactly. Loading replays both parts.
+ * All operations are synchronized so several terminals can share one history.
+ */
+public class UndoHistory {
+
+    public static final String HISTORY_FILE = "books.history";
+
+    // Action types
+    public static final byte ADD = 0;    // Book was added
+    public static final byte REMOVE = 1; // Book was removed
+    public static final byte BORROW = 2; // Book was borrowed
+    public static final byte RETURN = 3; // Book was returned
+    private static final String[] TYPE_NAMES = {"ADD", "REMOVE", "BORROW", "RETURN"};
+    private static final String UNDO_ENTRY = "UNDO"; // Appended when an action is undone
+    private static final String REDO_ENTRY = "REDO"; // Appended when an action is redone
+
+    /**
+     * A single recorded action. Only created when an action is undone or
+     * redone, never when it is recorded.
+     */
+    public static class Action {
+        public final byte type;
+        public final int bookID;
+        public final String title;  // Needed to undo REMOVE and redo ADD
+        public final String author;
+        public final Book.Status status; // Status the book had when it was removed
+
+        Action(byte type, int bookID, String title, String author, Book.Status status) {
+            this.type = type;
+            this.bookID = bookID;
+            this.title = title;
+            this.author = author;
+            this.status = status;
+        }
+
+        @Override
+        public String toString() {
+            return TYPE_NAMES[type] + " on Book ID: " + bookID;
+        }
+    }
+
+    private final byte[] types;
+    private final int[] bookIDs;
+    private final String[] titles;
+    private final String[] authors;
+    private final byte[] statuses;
+
+    private int start;  // Slot of the oldest action
+    private int done;   // Number of actions that can be undone
+    private int count;  // done + number of actions that can be redone
+
+    private String logFile;        // File that changes are appended to; null until loaded
+    private BufferedWriter log;    // Open append stream to logFile, created on first use
+
+    /**
+     * Constructor
+     * Time Complexity: O(c) for a capacity of c actions
+     * @param capacity Maximum number of actions kept
+     */
+    public UndoHistory(int capacity) {
+        capacity = Math.max(1, capacity);
+        this.types = new byte[capacity];
+        this.bookIDs = new int[capacity];
+        this.titles = new String[capacity];
+        this.authors = new String[capacity];
+        this.statuses = new byte[capacity];
+    }
+
+    /**
+     * Records a status change (BORROW or RETURN).
+     * Time Complexity: O(1)
+     */
+    public void record(byte type, int bookID) {
+        record(type, bookID, null, null, Book.Status.AVAILABLE);
+    }
+
+    /**
+     * Records an action and discards the actions that could be redone.
+     * Time Complexity: O(1)
+     * @param book The book that was added or removed, or changed status
+     */
+    public void record(byte type, Book book) {
+        record(type, book.getBookID(), book.getTitle(), book.getAuthor(), book.getStatusCode());
+    }
+
+    private synchronized void record(byte type, int bookID, String title, String author, Book.Status status) {
+        int slot;
+        if (done == types.length) {
+            slot = start; // Full: overwrite the oldest action
+            start = (start + 1) % types.length;
+        } else {
+            slot = (start + done) % types.length;
+            done++;
+        }
+        count = done;
+
+        types[slot] = type;
+        bookIDs[slot] = bookID;
+        titles[slot] = title;
+        authors[slot] = author;
+        statuses[slot] = (byte) status.ordinal();
+        append(line(slot));
+    }
+
+    /**
+     * Steps back over the most recent action.
+     * Time Complexity: O(1)
+     * @return The action to reverse, or null if there is nothing to undo
+     */
+    public synchronized Action undo() {
+        if (done == 0) {
+            return null;
+        }
+        done--;
+        append(UNDO_ENTRY);
+        return actionAt((start + done) % types.length);
+    }
+
+    /**
+     * Steps forward over the most recently undone action.
+     * Time Complexity: O(1)
+     * @return The action to apply again, or null if there is nothing to redo
+     */
+    public synchronized Action redo() {
+        if (done == count) {
+            return null;
+        }
+        done++;
+        append(REDO_ENTRY);
+        return actionAt((start + done - 1) % types.length);
+    }
+
+    /**
+     * Returns the number of actions that can be undone.
+     * Time Complexity: O(1)
+     */
+    public synchronized int size() {
+        return done;
+    }
+
+    private Action actionAt(int slot) {
+        return new Action(types[slot], bookIDs[slot], titles[slot], authors[slot],
+                Book.Status.values()[statuses[slot]]);
+    }
+
+    // --- PERSISTENCE ---
+
+    /**
+     * Saves the history to a file, oldest action first, and appends later
+     * changes to that file.
+     * Format: first line "done;count", then one line per action:
+     * TYPE;ID;Status;Title;Author
+     * Changes appended afterwards are further action lines, "UNDO" and "REDO".
+     * Like books.txt, it is written to a temporary file and moved into place.
+     * Time Complexity: O(c)
+     */
+    public synchronized void save(String fileName) {
+        close(); // The append stream would keep writing to the replaced file
+        File temp = new File(fileName + ".tmp");
+        try (BufferedWriter bw = new BufferedWriter(new FileWriter(temp, StandardCharsets.UTF_8))) {
+            bw.write(done + ";" + count);
+            bw.newLine();
+            for (int i = 0; i < count; i++) {
+                bw.write(line((start + i) % types.length));
+                bw.newLine();
+            }
+        } catch (IOException e) {
+            System.out.println("Error saving undo history: " + e.getMessage());
+            return;
+        }
+
+        try {
+            Files.move(temp.toPath(), Paths.get(fileName),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            logFile = fileName;
+        } catch (IOException e) {
+            System.out.println("Error saving undo history: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Releases the append stream. A later change opens it again.
+     * Time Complexity: O(1)
+     */
+    public synchronized void close() {
+        if (log == null) return;
+        try {
+            log.close();
+        } catch (IOException e) {
+            System.out.println("Error closing undo history: " + e.getMessage());
+        }
+        log = null;
+    }
+
+    /**
+     * Appends one change to the history file and flushes it, like the
+     * journal does without group commit. Does nothing before the history
+     * has a file, e.g. while it is being loaded.
+     * Time Complexity: O(1)
+     */
+    private void append(String entry) {
+        if (logFile == null) return;
+        try {
+            if (log == null) {
+                File file = new File(logFile);
+                boolean empty = file.length() == 0; // Also true if it does not exist
+                log = new BufferedWriter(new FileWriter(file, StandardCharsets.UTF_8, true));
+                if (empty) {
+                    log.write("0;0"); // Header of an empty snapshot
+                    log.newLine();
+                }
+            }
+            log.write(entry);
+            log.newLine();
+            log.flush();
+        } catch (IOException e) {
+            System.out.println("Error writing undo history: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Formats the action in a slot as TYPE;ID;Status;Title;Author.
+     */
+    private String line(int slot) {
+        return TYPE_NAMES[types[slot]] + ";" + bookIDs[slot] + ";"
+                + Book.Status.values()[statuses[slot]].label() + ";"
+                + (titles[slot] == null ? "" : titles[slot]) + ";"
+                + (authors[slot] == null ? "" : authors[slot]);
+    }
+
+    /**
+     * Loads a history saved with save(), then replays the changes appended
+     * after it. Later changes are appended to the same file. A missing file
+     * gives an empty history; if the file holds more actions than the
+     * capacity, the oldest ones are dropped.
+     * Time Complexity: O(c + k) for k appended changes
+     */
+    public static UndoHistory load(String fileName, int capacity) {
+        UndoHistory history = new UndoHistory(capacity);
+        File file = new File(fileName);
+        if (file.exists()) {
+            try (BufferedReader br = new BufferedReader(new FileReader(file, StandardCharsets.UTF_8))) {
+                String header = br.readLine();
+                if (header != null) {
+                    String[] counts = header.split(";");
+                    int savedDone = Integer.parseInt(counts[0].trim());
+                    int savedCount = Integer.parseInt(counts[1].trim());
+
+                    // 1. The snapshot: everything is loaded as undoable, then
+                    //    the cursor steps back over the redoable tail
+                    String line;
+                    for (int i = 0; i < savedCount && (line = br.readLine()) != null; i++) {
+                        history.replay(line);
+                    }
+                    history.done = Math.max(0, history.count - (savedCount - savedDone));
+
+                    // 2. Changes appended since the snapshot, in order
+                    while ((line = br.readLine()) != null) {
+                        history.replay(line);
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                System.out.println("Error loading undo history: " + e.getMessage());
+            }
+        }
+        history.logFile = fileName;
+        return history;
+    }
+
+    /**
+     * Applies one line of the history file. Damaged lines (e.g. the last
+     * one after a crash mid-write) are skipped.
+     * Time Complexity: O(1)
+     */
+    private void replay(String line) {
+        if (line.equals(UNDO_ENTRY)) {
+            undo();
+            return;
+        }
+        if (line.equals(REDO_ENTRY)) {
+            redo();
+            return;
+        }
+        String[] data = line.split(";", -1);
+        if (data.length < 5) return;
+        byte type = typeOf(data[0]);
+        Book.Status status = Book.Status.parse(data[2]);
+        if (type < 0 || status == null) return;
+        try {
+            record(type, Integer.parseInt(data[1]), data[3], data[4], status);
+        } catch (NumberFormatException e) {
+            // Damaged ID: skip the line
+        }
+    }
+
+    private static byte typeOf(String name) {
+        for (byte i = 0; i < TYPE_NAMES.length; i++) {
+            if (TYPE_NAMES[i].equals(name)) return i;
+        }
+        return -1;
+    }
+}
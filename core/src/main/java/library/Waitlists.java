@@ -0,0 +1,72 @@
+package library;
+
+/**
+ * Waitlists Class
+ * Keeps a separate FIFO waiting list for every book that has requests.
+ * Finding the next user waiting for a particular book is a hash lookup
+ * plus a dequeue, instead of a scan over everybody else's requests.
+ * All methods are synchronized.
+ */
+public class Waitlists {
+
+    private final IntHashMap<Queue> lists; // Book ID -> users waiting for it
+    private int waiting;                   // Total number of waiting requests
+
+    /**
+     * Constructor
+     * Time Complexity: O(1)
+     */
+    public Waitlists() {
+        this.lists = new IntHashMap<>();
+        this.waiting = 0;
+    }
+
+    /**
+     * Adds a request to the end of its book's waiting list.
+     * Time Complexity: O(1) average
+     */
+    public synchronized void add(Queue.Request request) {
+        Queue list = lists.get(request.bookID);
+        if (list == null) {
+            list = new Queue();
+            lists.put(request.bookID, list);
+        }
+        list.enqueue(request);
+        waiting++;
+    }
+
+    /**
+     * Removes and returns the next user waiting for the given book.
+     * Empty lists are dropped so the map only holds books with waiters.
+     * Time Complexity: O(1) average
+     * @return The oldest request for the book, or null if nobody is waiting
+     */
+    public synchronized Queue.Request poll(int bookID) {
+        Queue list = lists.get(bookID);
+        if (list == null) {
+            return null;
+        }
+        Queue.Request next = list.dequeue();
+        if (list.isEmpty()) {
+            lists.remove(bookID);
+        }
+        waiting--;
+        return next;
+    }
+
+    /**
+     * Returns the IDs of all books that currently have waiting users.
+     * Time Complexity: O(b) for b books with waiting lists
+     */
+    public synchronized int[] bookIDs() {
+        return lists.keys();
+    }
+
+    /**
+     * Returns the total number of waiting requests.
+     * Time Complexity: O(1)
+     */
+    public synchronized int size() {
+        return waiting;
+    }
+}
@@ -0,0 +1,69 @@
+package library;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the AVL title tree.
+ */
+class BSTTest {
+
+    @Test
+    void searchIgnoresCase() {
+        BST tree = new BST();
+        tree.insert(new Book(1, "Dune", "Herbert", Book.Status.AVAILABLE));
+        assertEquals(1, tree.search("dUNE").getBookID());
+        assertNull(tree.search("Emma"));
+    }
+
+    @Test
+    void booksWithTheSameTitleAreKeptApart() {
+        BST tree = new BST();
+        Book first = new Book(101, "Dune", "Herbert", Book.Status.AVAILABLE);
+        Book second = new Book(102, "dune", "Herbert", Book.Status.AVAILABLE);
+        tree.insert(second);
+        tree.insert(first);
+        tree.insert(new Book(103, "Emma", "Austen", Book.Status.AVAILABLE));
+        assertEquals(3, tree.size());
+        assertSame(first, tree.search("DUNE"));
+        assertEquals(2, tree.rangeCount("Dune", "Dune"));
+        assertEquals(2, tree.range("Dune", "Dune", 10).size());
+        assertSame(second, tree.iterator("Dune", 101).next());
+
+        assertTrue(tree.remove(first));
+        assertFalse(tree.remove(first));
+        assertSame(second, tree.search("Dune"));
+        assertSame(second, tree.select(0));
+        assertEquals(1, tree.rank("Emma"));
+    }
+
+    @Test
+    void randomInsertsAndRemovesMatchRankAndSelect() {
+        BST tree = new BST();
+        List<Book> books = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            books.add(new Book(i, String.format("T%04d", i), "A", Book.Status.AVAILABLE));
+        }
+        Collections.shuffle(books, new Random(1));
+        for (Book b : books) {
+            tree.insert(b);
+        }
+        for (int i = 0; i < 500; i++) {
+            assertTrue(tree.remove(books.get(i)));
+        }
+        assertEquals(500, tree.size());
+
+        List<Book> left = new ArrayList<>(books.subList(500, 1000));
+        left.sort((x, y) -> x.getTitle().compareTo(y.getTitle()));
+        for (int i = 0; i < left.size(); i++) {
+            assertSame(left.get(i), tree.select(i));
+            assertEquals(i, tree.rank(left.get(i).getTitle()));
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package library;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for the binary catalog format.
+ */
+class BinaryCatalogTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void writeThenLoadKeepsBooksAndStatuses() {
+        DynamicArray array = new DynamicArray(4, 2.0, true);
+        Book removed = new Book(2, "Gone", "Someone", Book.Status.AVAILABLE);
+        array.add(new Book(1, "Dune", "Herbert", Book.Status.BORROWED));
+        array.add(removed);
+        array.add(new Book(3, "Emma", "Austen", Book.Status.AVAILABLE));
+        array.remove(removed); // Tombstones are skipped when writing
+
+        String file = new File(dir.toFile(), "books.bin").getPath();
+        BinaryCatalog.write(file, array);
+
+        DynamicArray loaded = new DynamicArray();
+        BST tree = new BST();
+        BinaryCatalog.load(file, loaded, tree);
+        assertEquals(2, loaded.size());
+        assertEquals(Book.Status.BORROWED, loaded.get(0).getStatusCode());
+        assertEquals("Emma", loaded.get(1).getTitle());
+        assertEquals(Book.Status.AVAILABLE, loaded.get(1).getStatusCode());
+        assertEquals(3, tree.search("emma").getBookID());
+    }
+}
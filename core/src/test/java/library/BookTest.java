@@ -0,0 +1,26 @@
+package library;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class BookTest {
+
+    @Test
+    void parseAcceptsOnlyKnownLabels() {
+        assertEquals(Book.Status.AVAILABLE, Book.Status.parse("available"));
+        assertEquals(Book.Status.BORROWED, Book.Status.parse(" Borrowed "));
+        assertNull(Book.Status.parse("Lost"));
+        assertNull(Book.Status.parse(""));
+        assertNull(Book.Status.parse(null));
+    }
+
+    @Test
+    void unknownStatusTextIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new Book(1, "Dune", "Herbert", "Lost"));
+        Book book = new Book(1, "Dune", "Herbert", "Available");
+        assertThrows(IllegalArgumentException.class, () -> book.setStatus("Borowed"));
+        assertTrue(book.isAvailable());
+        assertThrows(IllegalArgumentException.class, () -> new BookQuery().status("Lost"));
+    }
+}
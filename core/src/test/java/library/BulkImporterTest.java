@@ -0,0 +1,87 @@
+package library;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the bulk import parser and Library.importBooks.
+ */
+class BulkImporterTest {
+
+    @Test
+    void badLinesAreSkippedAndTheRestKeepFileOrder() throws Exception {
+        write("feed.csv",
+                "Title,Author,Status",
+                "\"Dune, Part One\",Frank Herbert,Borrowed",
+                "Only a title",
+                ",No Title",
+                "Emma,Austen,Lost",
+                "\"Say \"\"Hi\"\"\",A;B",
+                "Emma,Austen,");
+        BulkImporter importer = new BulkImporter("feed.csv");
+        importer.parse();
+        assertEquals(3, importer.getRows());
+        assertEquals(3, importer.getSkipped());
+
+        Book[] books = importer.toBooks(500);
+        assertEquals("Dune, Part One", books[0].getTitle());
+        assertEquals(Book.Status.BORROWED, books[0].getStatusCode());
+        assertEquals("Say \"Hi\"", books[1].getTitle());
+        assertEquals("A,B", books[1].getAuthor()); // books.txt separator replaced
+        assertEquals(Book.Status.AVAILABLE, books[2].getStatusCode());
+        assertEquals(502, books[2].getBookID());
+    }
+
+    @Test
+    void idsFollowFileOrderAcrossChunks() throws Exception {
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 40_000; i++) {
+            lines.add(i % 1000 == 999 ? "broken" : "Title " + i + ";Author " + (i % 7));
+        }
+        Files.write(Paths.get("feed.txt"), lines, StandardCharsets.UTF_8);
+        BulkImporter importer = new BulkImporter("feed.txt");
+        importer.parse();
+        assertEquals(40, importer.getSkipped());
+
+        Book[] books = importer.toBooks(1);
+        assertEquals(39_960, books.length);
+        int expected = 0;
+        for (int row = 0; row < books.length; row++, expected++) {
+            if (expected % 1000 == 999) expected++;
+            assertEquals(row + 1, books[row].getBookID());
+            assertEquals("Title " + expected, books[row].getTitle());
+        }
+    }
+
+    @Test
+    void duplicateLinesBecomeSeparateBooks() throws Exception {
+        LibraryFiles.reset("101;Dune;Herbert;Available");
+        write("feed.txt", "Dune;Herbert", "Dune;Herbert", "Emma;Austen;Borrowed", "bad");
+        Library library = new Library(new Journal());
+        String imported = LibraryFiles.output(library, () -> library.importBooks("feed.txt"));
+        assertTrue(imported.contains("Imported 3 books (1 lines skipped)"), imported);
+
+        String range = LibraryFiles.output(library, () -> library.searchTitleRange("Dune", "Dune"));
+        assertTrue(range.startsWith("3 title(s)"), range);
+        assertTrue(range.contains("ID: 102") && range.contains("ID: 103"), range);
+        assertTrue(LibraryFiles.output(library, () -> library.searchByID(104)).contains("Borrowed"));
+        library.close();
+
+        // The import is in the snapshot
+        Library restarted = new Library(new Journal());
+        assertEquals(4, restarted.size());
+        restarted.close();
+    }
+
+    private static void write(String name, String... lines) throws Exception {
+        Files.write(Paths.get(name), Arrays.asList(lines), StandardCharsets.UTF_8);
+    }
+}
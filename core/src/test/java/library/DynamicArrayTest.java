@@ -0,0 +1,73 @@
+package library;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for DynamicArray: growth, tombstones and compaction.
+ */
+class DynamicArrayTest {
+
+    private static Book book(int id) {
+        return new Book(id, "Title " + id, "Author", Book.Status.AVAILABLE);
+    }
+
+    @Test
+    void addAndGetKeepOrderWhileGrowing() {
+        DynamicArray array = new DynamicArray();
+        for (int i = 0; i < 100; i++) {
+            array.add(book(i));
+        }
+        assertEquals(100, array.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, array.get(i).getBookID());
+        }
+    }
+
+    @Test
+    void removeLeavesTombstoneUntilCompacted() {
+        DynamicArray array = new DynamicArray();
+        for (int i = 0; i < 10; i++) {
+            array.add(book(i));
+        }
+        array.remove(3);
+        assertNull(array.get(3));
+        assertEquals(10, array.size());
+        assertEquals(9, array.count());
+
+        array.compact();
+        assertEquals(9, array.size());
+        assertEquals(4, array.get(3).getBookID());
+    }
+
+    @Test
+    void trackedRemoveByBookSurvivesCompaction() {
+        DynamicArray array = new DynamicArray(4, 2.0, true);
+        Book[] books = new Book[50];
+        for (int i = 0; i < books.length; i++) {
+            books[i] = book(i);
+            array.add(books[i]);
+        }
+        // Removing more than half compacts automatically and moves the slots
+        for (int i = 0; i < 30; i++) {
+            assertTrue(array.remove(books[i]));
+        }
+        assertFalse(array.remove(books[0]));
+        for (int i = 30; i < 50; i++) {
+            assertTrue(array.remove(books[i]));
+        }
+        assertEquals(0, array.count());
+    }
+
+    @Test
+    void compactDoesNotShrinkBelowInitialCapacity() {
+        DynamicArray array = new DynamicArray(64, 2.0, false);
+        for (int i = 0; i < 1000; i++) {
+            array.add(book(i));
+        }
+        array.removeAll(b -> b.getBookID() > 0, null); // Compacts afterwards
+        assertEquals(1, array.count());
+        assertEquals(64, array.capacity());
+    }
+}
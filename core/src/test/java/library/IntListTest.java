@@ -0,0 +1,44 @@
+package library;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class IntListTest {
+
+    private static IntList of(int... values) {
+        IntList list = new IntList(1);
+        for (int v : values) {
+            list.add(v);
+        }
+        return list;
+    }
+
+    private static int[] toArray(IntList list) {
+        int[] values = new int[list.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = list.get(i);
+        }
+        return values;
+    }
+
+    @Test
+    void addSortedKeepsOrderAndSkipsRepeats() {
+        IntList list = new IntList(1);
+        assertTrue(list.addSorted(5));
+        assertTrue(list.addSorted(9));
+        assertTrue(list.addSorted(1));
+        assertTrue(list.addSorted(7));
+        assertFalse(list.addSorted(7));
+        assertFalse(list.addSorted(9));
+        assertArrayEquals(new int[] {1, 5, 7, 9}, toArray(list));
+    }
+
+    @Test
+    void intersectFindsCommonValues() {
+        IntList a = of(2, 4, 6, 8, 10, 12);
+        IntList b = of(1, 4, 5, 12, 40);
+        assertArrayEquals(new int[] {4, 12}, toArray(IntList.intersect(a, b)));
+        assertEquals(0, IntList.intersect(a, new IntList()).size());
+    }
+}
@@ -0,0 +1,94 @@
+package library;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the journal in group-commit mode.
+ */
+class JournalTest {
+
+    private static final String FILE = "group.journal";
+
+    @BeforeEach
+    void deleteJournal() {
+        new File(FILE).delete();
+    }
+
+    @Test
+    void fullBatchIsFlushedAtOnce() throws Exception {
+        Journal journal = new Journal(FILE, 1000, 3, 60_000);
+        journal.logStatus(101, "Borrowed");
+        journal.logStatus(102, "Borrowed");
+        assertEquals(0, new File(FILE).length()); // Still pending
+        journal.logStatus(103, "Borrowed");
+        assertEquals(List.of("S;101;Borrowed", "S;102;Borrowed", "S;103;Borrowed"), lines());
+        assertTrue(journal.stats().startsWith("batches=1 entries=3 "), journal.stats());
+        journal.close();
+    }
+
+    @Test
+    void partialBatchIsFlushedAfterTheDelay() throws Exception {
+        Journal journal = new Journal(FILE, 1000, 100, 20);
+        journal.logRemove(101);
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (new File(FILE).length() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(List.of("R;101"), lines());
+        journal.close();
+    }
+
+    @Test
+    void closeFlushesThePendingBatchForReplay() throws Exception {
+        Journal journal = new Journal(FILE, 1000, 100, 60_000);
+        journal.logAdd(new Book(102, "Emma", "Austen", Book.Status.AVAILABLE));
+        journal.logAdd(new Book(103, "Ulysses", "Joyce", Book.Status.AVAILABLE));
+        journal.logStatus(102, "Borrowed");
+        journal.logRemove(103);
+        journal.close();
+
+        DynamicArray array = new DynamicArray(16, 2.0, true);
+        BST tree = new BST();
+        IntHashMap<Book> index = new IntHashMap<>();
+        Book seed = new Book(101, "Dune", "Herbert", Book.Status.AVAILABLE);
+        array.add(seed);
+        tree.insert(seed);
+        index.put(101, seed);
+        assertEquals(4, new Journal(FILE, 1000, 100, 60_000).replay(array, tree, index));
+
+        assertEquals(2, array.count());
+        assertEquals(Book.Status.BORROWED, index.get(102).getStatusCode());
+        assertNull(index.get(103));
+        assertNull(tree.search("Ulysses"));
+        assertSame(index.get(102), tree.search("emma"));
+    }
+
+    @Test
+    void libraryReplaysAFlushedBatchAfterACrash() throws Exception {
+        LibraryFiles.reset("101;Dune;Herbert;Available", "102;Emma;Austen;Available");
+        Library library = new Library(new Journal(Journal.JOURNAL_FILE, 1000, 2, 60_000));
+        LibraryFiles.output(library, () -> {
+            library.borrowBook(101);
+            library.addBook("Walden", "Thoreau"); // ID 103, fills the batch
+        });
+        // No close(): the restart must rebuild both changes from the journal
+
+        Library restarted = new Library(new Journal());
+        assertTrue(LibraryFiles.output(restarted, () -> restarted.searchByID(101)).contains("Borrowed"));
+        assertTrue(LibraryFiles.output(restarted, () -> restarted.searchByID(103)).contains("Walden"));
+        restarted.close();
+    }
+
+    private static List<String> lines() throws Exception {
+        return Files.readAllLines(Paths.get(FILE), StandardCharsets.UTF_8);
+    }
+}
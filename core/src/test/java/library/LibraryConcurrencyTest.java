@@ -0,0 +1,73 @@
+package library;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Stress test of concurrent borrowing: many threads borrow and return the
+ * same few books, and a book must never have two holders at once.
+ */
+class LibraryConcurrencyTest {
+
+    private static final int BOOKS = 4;
+    private static final int THREADS = 16;
+    private static final int ROUNDS = 2000;
+
+    @Test
+    void bookIsNeverBorrowedTwice() throws Exception {
+        String[] lines = new String[BOOKS];
+        for (int i = 0; i < BOOKS; i++) {
+            lines[i] = (101 + i) + ";Title " + i + ";Author;Available";
+        }
+        LibraryFiles.reset(lines);
+        Library library = new Library(new Journal());
+
+        AtomicIntegerArray holders = new AtomicIntegerArray(BOOKS);
+        AtomicInteger borrows = new AtomicInteger();
+        List<Throwable> failures = new ArrayList<>();
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[THREADS];
+        for (int t = 0; t < THREADS; t++) {
+            final Random random = new Random(t);
+            threads[t] = new Thread(() -> {
+                try {
+                    start.await();
+                    for (int round = 0; round < ROUNDS; round++) {
+                        int book = random.nextInt(BOOKS);
+                        String reply = LibraryFiles.output(library, () -> library.borrowBook(101 + book));
+                        if (reply.startsWith("You borrowed")) {
+                            borrows.incrementAndGet();
+                            assertEquals(1, holders.incrementAndGet(book), "two holders of book " + book);
+                            Thread.yield();
+                            holders.decrementAndGet(book);
+                            LibraryFiles.output(library, () -> library.returnBook(101 + book));
+                        } else {
+                            assertEquals("Book is already borrowed.", reply.trim());
+                        }
+                    }
+                } catch (Throwable e) {
+                    synchronized (failures) {
+                        failures.add(e);
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        library.close();
+
+        assertTrue(failures.isEmpty(), () -> "failures: " + failures);
+        assertTrue(borrows.get() > 0);
+    }
+}
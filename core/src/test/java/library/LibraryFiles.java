@@ -0,0 +1,51 @@
+package library;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+/**
+ * Test helper: Library keeps its data in fixed files of the working
+ * directory (target/test-work), so every test starts by resetting them.
+ */
+final class LibraryFiles {
+
+    private static final String[] DATA_FILES = {
+            FileIO.BOOK_FILE, Journal.JOURNAL_FILE, UndoHistory.HISTORY_FILE,
+            BinaryCatalog.BINARY_FILE, "users.txt"
+    };
+
+    private LibraryFiles() {
+    }
+
+    /**
+     * Deletes all data files and writes books.txt with the given lines
+     * (ID;Title;Author;Status).
+     */
+    static void reset(String... bookLines) throws IOException {
+        for (String name : DATA_FILES) {
+            new File(name).delete();
+        }
+        Files.write(Paths.get(FileIO.BOOK_FILE), Arrays.asList(bookLines), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Runs an action with the Library's messages for this thread captured,
+     * and returns them.
+     */
+    static String output(Library library, Runnable action) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        library.setOutput(new PrintStream(bytes, true, StandardCharsets.UTF_8));
+        try {
+            action.run();
+        } finally {
+            library.setOutput(System.out);
+        }
+        return bytes.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,302 @@
+package library;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the Library's catalog operations, including what survives a
+ * restart from the snapshot and journal files.
+ */
+class LibraryTest {
+
+    @Test
+    void separatorsInAddedBookDoNotCorruptTheJournal() throws Exception {
+        LibraryFiles.reset("101;Existing;Author;Available");
+        Library library = new Library(new Journal());
+        LibraryFiles.output(library, () -> library.addBook("Evil;Title\nX", "Auth;or"));
+        // No close(): the restart must rebuild the book from the journal alone
+        Library restarted = new Library(new Journal());
+        String found = LibraryFiles.output(restarted, () -> restarted.searchByID(102));
+        assertTrue(found.contains("Evil,Title X"), found);
+        assertTrue(found.contains("Auth,or"), found);
+        assertTrue(found.contains("Available"), found);
+        restarted.close();
+    }
+
+    @Test
+    void journalEntriesWithUnknownStatusAreSkipped() throws Exception {
+        LibraryFiles.reset("101;Dune;Herbert;Available");
+        Files.write(Paths.get(Journal.JOURNAL_FILE), Arrays.asList(
+                "S;101;Lost",
+                "A;102;Emma;Austen;Missing",
+                "A;103;Ulysses;Joyce;Borrowed"), StandardCharsets.UTF_8);
+        Library library = new Library(new Journal());
+        assertTrue(LibraryFiles.output(library, () -> library.searchByID(101)).contains("Available"));
+        assertTrue(LibraryFiles.output(library, () -> library.searchByID(102)).contains("Book not found."));
+        assertTrue(LibraryFiles.output(library, () -> library.searchByID(103)).contains("Borrowed"));
+        library.close();
+    }
+
+    @Test
+    void undoneRemovalIsFoundOnceBySearchAndQuery() throws Exception {
+        LibraryFiles.reset("100;Seed;Someone;Available");
+        Library library = new Library(new Journal());
+        LibraryFiles.output(library, () -> {
+            library.addBook("Data Mining", "Ada Byron");   // ID 101
+            library.addBook("Zebra Data", "Ada Byron");    // ID 102
+            library.removeBook(101);
+            library.undo(); // 101 comes back behind the higher ID 102
+        });
+
+        assertEquals(1, count(LibraryFiles.output(library, () -> library.searchTitlePrefix("Data")), "ID: 101"));
+        String contains = LibraryFiles.output(library, () -> library.searchTitleContains("data"));
+        assertEquals(1, count(contains, "ID: 101"));
+        assertEquals(1, count(contains, "ID: 102"));
+        String found = LibraryFiles.output(library,
+                () -> library.findBooks(new BookQuery().author("Byron").titlePrefix("Data")));
+        assertEquals(1, count(found, "ID: 101"));
+        assertEquals(0, count(found, "ID: 102"));
+        library.close();
+    }
+
+    @Test
+    void undoHistorySurvivesACrash() throws Exception {
+        LibraryFiles.reset("101;Dune;Herbert;Available");
+        Library library = new Library(new Journal());
+        LibraryFiles.output(library, () -> {
+            library.addBook("Emma", "Austen");  // ID 102
+            library.borrowBook(101);
+            library.undo();                     // Returns 101 again
+        });
+        // No close(): nothing is saved except what each change wrote itself
+
+        Library restarted = new Library(new Journal());
+        assertTrue(LibraryFiles.output(restarted, restarted::redo).contains("Redo successful: BORROW on Book ID: 101"));
+        assertTrue(LibraryFiles.output(restarted, () -> restarted.searchByID(101)).contains("Borrowed"));
+        assertTrue(LibraryFiles.output(restarted, restarted::undo).contains("Undo successful: BORROW on Book ID: 101"));
+        assertTrue(LibraryFiles.output(restarted, restarted::undo).contains("Undo successful: ADD on Book ID: 102"));
+        assertTrue(LibraryFiles.output(restarted, () -> restarted.searchByID(102)).contains("Book not found."));
+        assertTrue(LibraryFiles.output(restarted, restarted::undo).contains("Nothing to undo."));
+        restarted.close();
+    }
+
+    @Test
+    void catalogPageCursorSurvivesCompaction() throws Exception {
+        String[] lines = new String[10];
+        for (int i = 0; i < lines.length; i++) {
+            lines[i] = (101 + i) + ";Title " + i + ";Author;Available";
+        }
+        LibraryFiles.reset(lines);
+        Library library = new Library(new Journal());
+
+        int[] cursor = new int[1];
+        String first = LibraryFiles.output(library, () -> cursor[0] = library.listCatalogPage(0, 3));
+        assertEquals(103, cursor[0]);
+        assertEquals(3, count(first, "ID: "));
+
+        // Removing more than half of the books compacts the catalog
+        LibraryFiles.output(library, () -> {
+            for (int id : new int[] {101, 102, 104, 105, 106, 107}) {
+                library.removeBook(id);
+            }
+        });
+        String second = LibraryFiles.output(library, () -> cursor[0] = library.listCatalogPage(cursor[0], 2));
+        assertTrue(second.contains("ID: 108") && second.contains("ID: 109"), second);
+        assertEquals(2, count(second, "ID: "));
+        assertEquals(109, cursor[0]);
+
+        // A cursor whose book was removed continues with the next higher ID
+        LibraryFiles.output(library, () -> library.removeBook(109));
+        String last = LibraryFiles.output(library, () -> cursor[0] = library.listCatalogPage(cursor[0], 2));
+        assertTrue(last.contains("ID: 110"), last);
+        assertEquals(1, count(last, "ID: "));
+        assertEquals(-1, cursor[0]);
+        library.close();
+    }
+
+    @Test
+    void failedSnapshotKeepsTheJournal() throws Exception {
+        LibraryFiles.reset("101;Dune;Herbert;Available");
+        // A directory in the way of the temporary file makes every snapshot fail
+        File blocker = new File(FileIO.BOOK_FILE + ".tmp");
+        assertTrue(blocker.mkdir());
+        try {
+            Library library = new Library(new Journal(Journal.JOURNAL_FILE, 2));
+            String added = LibraryFiles.output(library, () -> {
+                library.addBook("Emma", "Austen");     // ID 102
+                library.addBook("Ulysses", "Joyce");   // ID 103, compaction is due
+            });
+            assertTrue(added.contains("Snapshot failed"), added);
+            library.close();
+
+            Library restarted = new Library(new Journal());
+            assertTrue(LibraryFiles.output(restarted, () -> restarted.searchByID(102)).contains("Emma"));
+            assertTrue(LibraryFiles.output(restarted, () -> restarted.searchByID(103)).contains("Ulysses"));
+            assertTrue(LibraryFiles.output(restarted, restarted::undo).contains("Undo successful: ADD on Book ID: 103"));
+            restarted.close();
+        } finally {
+            blocker.delete();
+        }
+    }
+
+    @Test
+    void removingABookKeepsOthersWithTheSameTitle() throws Exception {
+        LibraryFiles.reset("101;Dune;Herbert;Available", "102;Dune;Someone Else;Available");
+        Library library = new Library(new Journal());
+        LibraryFiles.output(library, () -> library.removeBook(101));
+
+        String found = LibraryFiles.output(library, () -> library.searchByTitle("Dune"));
+        assertTrue(found.contains("ID: 102"), found);
+        String listed = LibraryFiles.output(library, library::listAllBooksAlphabetical);
+        assertTrue(listed.contains("ID: 102"), listed);
+        assertFalse(listed.contains("Tree is empty."), listed);
+        library.close();
+    }
+
+    @Test
+    void columnarModeServesLookupsAndStatusChanges() throws Exception {
+        LibraryFiles.reset("101;Dune;Herbert;Available", "102;Emma;Austen;Available",
+                "103;Ulysses;Joyce;Borrowed");
+        Library library = new Library(new Journal(), false, false, true);
+        assertEquals(3, library.size());
+        assertTrue(LibraryFiles.output(library, () -> library.searchByTitle("emma")).contains("ID: 102"));
+        LibraryFiles.output(library, () -> library.borrowBook(101));
+        assertTrue(LibraryFiles.output(library, () -> library.searchByID(101)).contains("Borrowed"));
+        String available = LibraryFiles.output(library, library::listAvailableBooks);
+        assertTrue(available.contains("Available books: 1 of 3"), available);
+        assertTrue(available.contains("ID: 102") && !available.contains("ID: 101"), available);
+
+        // Anything else loads the full catalog, which replays the borrow
+        LibraryFiles.output(library, () -> library.addBook("Walden", "Thoreau")); // ID 104
+        assertTrue(LibraryFiles.output(library, () -> library.searchByID(101)).contains("Borrowed"));
+        library.close();
+
+        Library restarted = new Library(new Journal(), false, false, true);
+        assertEquals(4, restarted.size());
+        assertTrue(LibraryFiles.output(restarted, () -> restarted.searchByID(101)).contains("Borrowed"));
+        LibraryFiles.output(restarted, () -> restarted.returnBook(101));
+        restarted.close();
+
+        Library reloaded = new Library(new Journal());
+        assertTrue(LibraryFiles.output(reloaded, () -> reloaded.searchByID(101)).contains("Available"));
+        reloaded.close();
+    }
+
+    @Test
+    void journalAndHistoryAreReadAndWrittenAsUtf8() throws Exception {
+        LibraryFiles.reset("101;Dune;Herbert;Available");
+        Files.write(Paths.get(Journal.JOURNAL_FILE), Arrays.asList(
+                "A;102;Café Müller;Brontë;Available"), StandardCharsets.UTF_8);
+        Library library = new Library(new Journal());
+        assertTrue(LibraryFiles.output(library, () -> library.searchByID(102)).contains("Café Müller"));
+        LibraryFiles.output(library, () -> library.removeBook(102));
+
+        // No close(): the removal is only in the journal and the history file
+        Library restarted = new Library(new Journal());
+        LibraryFiles.output(restarted, restarted::undo);
+        String found = LibraryFiles.output(restarted, () -> restarted.searchByID(102));
+        assertTrue(found.contains("Café Müller") && found.contains("Brontë"), found);
+        restarted.close();
+        String saved = new String(Files.readAllBytes(Paths.get(FileIO.BOOK_FILE)), StandardCharsets.UTF_8);
+        assertTrue(saved.contains("102;Café Müller;Brontë;Available"), saved);
+    }
+
+    @Test
+    void listingsAreWrittenAsUtf8() throws Exception {
+        LibraryFiles.reset("101;Œuvres complètes;Molière;Available");
+        Library library = new Library(new Journal());
+        String listed = LibraryFiles.output(library, library::listAllBooks);
+        assertTrue(listed.contains("Œuvres complètes | Author: Molière"), listed);
+        listed = LibraryFiles.output(library, library::listAllBooksAlphabetical);
+        assertTrue(listed.contains("Œuvres complètes | Author: Molière"), listed);
+        library.close();
+    }
+
+    @Test
+    void borrowedOnlyQueryWalksTheBitmapInIDOrder() throws Exception {
+        LibraryFiles.reset("101;Dune;Herbert;Available", "102;Emma;Austen;Borrowed",
+                "103;Ulysses;Joyce;Borrowed", "230;Walden;Thoreau;Borrowed", "104;Beloved;Morrison;Available");
+        Library library = new Library(new Journal());
+        LibraryFiles.output(library, () -> {
+            library.removeBook(103);
+            library.borrowBook(104);
+        });
+
+        String found = LibraryFiles.output(library, () -> library.findBooks(new BookQuery().status("Borrowed")));
+        assertFalse(found.contains("ID: 101") || found.contains("ID: 103"), found);
+        // A catalog scan would list 230 before 104
+        assertTrue(found.indexOf("ID: 102") < found.indexOf("ID: 104")
+                && found.indexOf("ID: 104") < found.indexOf("ID: 230"), found);
+        assertTrue(found.indexOf("ID: 102") >= 0, found);
+        library.close();
+    }
+
+    @Test
+    void lazyModeSkipsInvalidLinesAndReusesDecodedBooks() throws Exception {
+        String longTitle = String.join(" ", java.util.Collections.nCopies(200, "Long"));
+        LibraryFiles.reset("101;Dune;Herbert;Lost", "-5;Emma;Austen;Available",
+                "102;" + longTitle + ";Someone;Borrowed");
+        Library library = new Library(new Journal(), true);
+        assertEquals(1, library.size());
+        assertTrue(LibraryFiles.output(library, () -> library.searchByID(101)).contains("Book not found."));
+        assertTrue(LibraryFiles.output(library, () -> library.searchByTitle("Emma")).contains("Book not found"));
+        assertTrue(LibraryFiles.output(library, () -> library.searchByID(102)).contains(longTitle + " |"));
+
+        // A book decoded once is served without reading the file again
+        Files.delete(Paths.get(FileIO.BOOK_FILE));
+        assertTrue(LibraryFiles.output(library, () -> library.searchByID(102)).contains("Borrowed"));
+        library.close();
+    }
+
+    @Test
+    void findBooksLeavesTheCallersQueryUnchanged() throws Exception {
+        LibraryFiles.reset("101;Dune;Herbert;Available");
+        Library library = new Library(new Journal());
+        BookQuery query = new BookQuery().author("Herbert").limit(500);
+        LibraryFiles.output(library, () -> library.findBooks(query));
+        assertEquals(500, query.limit);
+        library.close();
+    }
+
+    @Test
+    void returnedBookGoesToItsWaitersInRequestOrder() throws Exception {
+        LibraryFiles.reset("101;Dune;Herbert;Borrowed", "102;Emma;Austen;Borrowed");
+        Library library = new Library(new Journal());
+        LibraryFiles.output(library, () -> {
+            library.requestBook("Ann", 101);
+            library.requestBook("Cem", 102);
+            library.requestBook("Bob", 101);
+        });
+
+        String returned = LibraryFiles.output(library, () -> library.returnBook(101));
+        assertTrue(returned.contains("User: Ann, BookID: 101 -> borrowed: Dune"), returned);
+        assertFalse(returned.contains("Cem") || returned.contains("Bob"), returned);
+        assertTrue(LibraryFiles.output(library, () -> library.searchByID(101)).contains("Borrowed"));
+
+        returned = LibraryFiles.output(library, () -> library.returnBook(101));
+        assertTrue(returned.contains("User: Bob, BookID: 101"), returned);
+        returned = LibraryFiles.output(library, () -> library.returnBook(101));
+        assertFalse(returned.contains("Processing request"), returned);
+        assertTrue(LibraryFiles.output(library, () -> library.searchByID(101)).contains("Available"));
+
+        // Cem is still waiting for 102
+        String processed = LibraryFiles.output(library, library::processQueue);
+        assertTrue(processed.contains("still waiting: 1"), processed);
+        library.close();
+    }
+
+    private static int count(String text, String part) {
+        int n = 0;
+        for (int i = text.indexOf(part); i >= 0; i = text.indexOf(part, i + 1)) {
+            n++;
+        }
+        return n;
+    }
+}
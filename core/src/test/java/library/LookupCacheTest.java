@@ -0,0 +1,98 @@
+package library;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the lookup cache and its use in front of the Library's indexes.
+ */
+class LookupCacheTest {
+
+    @Test
+    void lruEvictsTheLeastRecentlyUsedEntry() {
+        LookupCache<Integer, String> cache = new LookupCache<>(LookupCache.Policy.LRU, 3);
+        cache.put(1, "a", cache.stamp());
+        cache.put(2, "b", cache.stamp());
+        cache.put(3, "c", cache.stamp());
+        assertEquals("a", cache.get(1)); // 2 is now the least recently used
+        cache.put(4, "d", cache.stamp());
+
+        assertEquals(3, cache.size());
+        assertNull(cache.get(2));
+        assertEquals("a", cache.get(1));
+        assertEquals("c", cache.get(3));
+        assertEquals("d", cache.get(4));
+        assertTrue(cache.stats().contains("evictions=1"), cache.stats());
+    }
+
+    @Test
+    void tinyLfuKeepsPopularEntriesThroughAScan() {
+        LookupCache<Integer, String> cache = new LookupCache<>(LookupCache.Policy.TINY_LFU, 100);
+        for (int round = 0; round < 10; round++) {
+            for (int key = 0; key < 50; key++) {
+                if (cache.get(key) == null) {
+                    cache.put(key, "hot " + key, cache.stamp());
+                }
+            }
+        }
+        for (int key = 1000; key < 11_000; key++) { // One-off lookups
+            if (cache.get(key) == null) {
+                cache.put(key, "cold " + key, cache.stamp());
+            }
+        }
+
+        assertTrue(cache.size() <= 100);
+        int kept = 0;
+        for (int key = 0; key < 50; key++) {
+            if (cache.get(key) != null) kept++;
+        }
+        assertTrue(kept >= 45, "kept " + kept + " of 50");
+
+        LookupCache<Integer, String> lru = new LookupCache<>(LookupCache.Policy.LRU, 100);
+        for (int key = 0; key < 50; key++) {
+            lru.put(key, "hot " + key, lru.stamp());
+        }
+        for (int key = 1000; key < 1100; key++) {
+            lru.put(key, "cold " + key, lru.stamp());
+        }
+        assertNull(lru.get(0)); // The same scan flushes an LRU cache
+    }
+
+    @Test
+    void putAfterAnInvalidationIsIgnored() {
+        LookupCache<Integer, String> cache = new LookupCache<>(LookupCache.Policy.LRU, 10);
+        cache.put(1, "old", cache.stamp());
+        long stamp = cache.stamp(); // A lookup of 1 starts...
+        cache.invalidate(1);        // ...the book changes...
+        cache.put(1, "old", stamp); // ...and the stale result comes back
+        assertNull(cache.get(1));
+
+        cache.put(1, "new", cache.stamp());
+        assertEquals("new", cache.get(1));
+        stamp = cache.stamp();
+        cache.clear();
+        cache.put(2, "b", stamp);
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void libraryDropsCachedBooksWhenTheirStatusChanges() throws Exception {
+        LibraryFiles.reset("101;Dune;Herbert;Available", "102;Emma;Austen;Available");
+        // Off-heap lookups return copies, so a stale cache entry would show
+        Library library = new Library(new Journal(), false, true);
+        library.enableLookupCache(LookupCache.Policy.TINY_LFU, 16);
+        assertTrue(LibraryFiles.output(library, () -> library.searchByID(101)).contains("Available"));
+        assertTrue(LibraryFiles.output(library, () -> library.searchByTitle("EMMA")).contains("Available"));
+        assertTrue(LibraryFiles.output(library, () -> library.searchByID(101)).contains("Available"));
+        assertTrue(library.cacheStats().contains("hits=1"), library.cacheStats());
+
+        LibraryFiles.output(library, () -> {
+            library.borrowBook(101);
+            library.borrowBook(102);
+        });
+        assertTrue(LibraryFiles.output(library, () -> library.searchByID(101)).contains("Borrowed"));
+        assertTrue(LibraryFiles.output(library, () -> library.searchByTitle("emma")).contains("Borrowed"));
+        library.close();
+    }
+}
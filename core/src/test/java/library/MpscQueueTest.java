@@ -0,0 +1,69 @@
+package library;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+class MpscQueueTest {
+
+    @Test
+    void dequeueReturnsPlainRequestsInOrder() {
+        MpscQueue queue = new MpscQueue();
+        assertTrue(queue.isEmpty());
+        queue.enqueue("ann", 101);
+        queue.enqueue("bob", 102);
+
+        Queue.Request first = queue.dequeue();
+        // A plain Request carries no link to the requests queued after it
+        assertEquals(Queue.Request.class, first.getClass());
+        assertEquals("ann", first.userName);
+        assertEquals(101, first.bookID);
+        assertEquals(102, queue.dequeue().bookID);
+        assertNull(queue.dequeue());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void concurrentProducersLoseNothing() throws Exception {
+        final int producers = 8;
+        final int perProducer = 10_000;
+        MpscQueue queue = new MpscQueue();
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            final int base = p * perProducer;
+            Thread t = new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    queue.enqueue("user", base + i);
+                }
+            });
+            threads.add(t);
+            t.start();
+        }
+
+        Set<Integer> seen = new HashSet<>();
+        int[] lastPerProducer = new int[producers];
+        Arrays.fill(lastPerProducer, -1);
+        while (seen.size() < producers * perProducer) {
+            Queue.Request r = queue.dequeue();
+            if (r == null) {
+                Thread.yield();
+                continue;
+            }
+            assertTrue(seen.add(r.bookID), "duplicate " + r.bookID);
+            // Each producer's requests come out in the order it sent them
+            int p = r.bookID / perProducer;
+            assertTrue(r.bookID > lastPerProducer[p]);
+            lastPerProducer[p] = r.bookID;
+        }
+        for (Thread t : threads) {
+            t.join();
+        }
+        assertTrue(queue.isEmpty());
+    }
+}
@@ -0,0 +1,65 @@
+package library;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the off-heap store and the Library's off-heap mode.
+ */
+class OffHeapCatalogTest {
+
+    private static final String FILE = "offheap-books.txt";
+
+    @Test
+    void saveAndLoadRoundTrip() throws Exception {
+        OffHeapCatalog catalog = new OffHeapCatalog();
+        catalog.add(101, "Dune", "Herbert", Book.Status.AVAILABLE);
+        catalog.add(102, "Œuvres", "Molière", Book.Status.BORROWED);
+        catalog.add(7, "Emma", "Austen", Book.Status.AVAILABLE);
+        assertTrue(catalog.setStatus(101, Book.Status.BORROWED));
+        assertFalse(catalog.setStatus(999, Book.Status.BORROWED));
+        assertTrue(catalog.save(FILE));
+        catalog.free();
+
+        assertEquals(List.of("101;Dune;Herbert;Borrowed", "102;Œuvres;Molière;Borrowed", "7;Emma;Austen;Available"),
+                Files.readAllLines(Paths.get(FILE), StandardCharsets.UTF_8));
+
+        OffHeapCatalog loaded = OffHeapCatalog.load(FILE);
+        assertEquals(3, loaded.size());
+        assertEquals(102, loaded.getMaxID());
+        assertEquals("Molière", loaded.findByID(102).getAuthor());
+        assertEquals(102, loaded.findByTitle("œUVRES").getBookID());
+        assertEquals(Book.Status.BORROWED, loaded.findByID(101).getStatusCode());
+        assertNull(loaded.findByID(103));
+        assertNull(loaded.findByTitle("Ulysses"));
+        loaded.free();
+    }
+
+    @Test
+    void removalInOffHeapModeLoadsTheFullCatalogAndPersists() throws Exception {
+        LibraryFiles.reset("101;Dune;Herbert;Available", "102;Emma;Austen;Available",
+                "103;Ulysses;Joyce;Available");
+        Library library = new Library(new Journal(), false, true);
+        assertTrue(library.offHeapBytes() > 0);
+        LibraryFiles.output(library, () -> library.borrowBook(102)); // Changed in place
+        assertTrue(library.offHeapBytes() > 0);
+
+        LibraryFiles.output(library, () -> library.removeBook(101)); // Needs the heap catalog
+        assertEquals(0, library.offHeapBytes());
+        assertTrue(LibraryFiles.output(library, () -> library.searchByID(101)).contains("Book not found."));
+        assertTrue(LibraryFiles.output(library, () -> library.searchByID(102)).contains("Borrowed"));
+        library.close();
+
+        Library restarted = new Library(new Journal(), false, true);
+        assertEquals(2, restarted.size());
+        assertTrue(LibraryFiles.output(restarted, () -> restarted.searchByID(101)).contains("Book not found."));
+        assertTrue(LibraryFiles.output(restarted, () -> restarted.searchByTitle("emma")).contains("Borrowed"));
+        restarted.close();
+    }
+}
@@ -0,0 +1,84 @@
+package library;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Iterator;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the parallel startup loader. Files over 512 KB are cut into
+ * several ranges, so the larger tests cross range boundaries.
+ */
+class ParallelLoaderTest {
+
+    private static final String FILE = "parallel-books.txt";
+
+    @Test
+    void crlfFileWithoutFinalNewlineMatchesASequentialLoad() throws Exception {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 60_000; i++) {
+            // Varying line lengths move the range boundaries around
+            text.append(i + 1).append(";Title ").append("x".repeat(i % 23)).append(i % 5000)
+                    .append(";Author ").append(i % 97).append(';')
+                    .append(i % 3 == 0 ? "Borrowed" : "Available");
+            if (i % 1000 == 500) text.append(";extra field"); // Invalid, skipped by both
+            text.append("\r\n");
+        }
+        text.setLength(text.length() - 2); // No line break after the last line
+        byte[] data = text.toString().getBytes(StandardCharsets.UTF_8);
+        assertTrue(data.length > 2 * 256 * 1024);
+        Files.write(Paths.get(FILE), data);
+
+        DynamicArray expected = new DynamicArray();
+        BookCodec.decode(new ByteArrayInputStream(data), expected::add);
+
+        DynamicArray array = new DynamicArray();
+        BST tree = new BST();
+        IntHashMap<Book> index = new IntHashMap<>();
+        assertEquals(60_000, ParallelLoader.load(FILE, array, tree, index));
+
+        assertEquals(expected.size(), array.size());
+        assertEquals(60_000 - 60, array.size());
+        for (int i = 0; i < array.size(); i++) {
+            Book want = expected.get(i);
+            Book got = array.get(i);
+            assertEquals(want.toString(), got.toString()); // No stray '\r' or cut lines
+            assertSame(got, index.get(got.getBookID()));
+        }
+        assertEquals(array.size(), tree.size());
+
+        // Every book is in the tree, in (title, ID) order
+        Iterator<Book> books = tree.iterator(null);
+        Book previous = books.next();
+        while (books.hasNext()) {
+            Book next = books.next();
+            assertTrue(BST.ORDER.compare(previous, next) < 0);
+            previous = next;
+        }
+    }
+
+    @Test
+    void smallFileWithoutFinalNewline() throws Exception {
+        Files.write(Paths.get(FILE), "101;Dune;Herbert;Available\r\n102;Emma;Austen;Borrowed"
+                .getBytes(StandardCharsets.UTF_8));
+        DynamicArray array = new DynamicArray();
+        BST tree = new BST();
+        IntHashMap<Book> index = new IntHashMap<>();
+        assertEquals(102, ParallelLoader.load(FILE, array, tree, index));
+        assertEquals(2, array.size());
+        assertEquals(Book.Status.BORROWED, index.get(102).getStatusCode());
+        assertEquals("Emma", tree.search("emma").getTitle());
+    }
+
+    @Test
+    void missingFileLoadsNothing() {
+        DynamicArray array = new DynamicArray();
+        assertEquals(0, ParallelLoader.load("no-such-file.txt", array, new BST(), new IntHashMap<>()));
+        assertEquals(0, array.size());
+    }
+}